@@ -6,8 +6,10 @@ import com.intellij.notification.NotificationGroup;
 import com.intellij.notification.NotificationListener;
 import com.intellij.notification.NotificationType;
 import com.intellij.notification.Notifications;
+import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.components.ApplicationComponent;
 import com.intellij.openapi.diagnostic.Logger;
+import de.plushnikov.intellij.plugin.lombokconfig.ConfigChangeTracker;
 import de.plushnikov.intellij.plugin.settings.LombokSettings;
 import org.jetbrains.annotations.NotNull;
 
@@ -27,6 +29,8 @@ public class LombokLoader implements ApplicationComponent {
   public void initComponent() {
     LOG.info("Lombok plugin initialized for IntelliJ");
 
+    ConfigChangeTracker.getInstance().install(ApplicationManager.getApplication());
+
     showDonate();
   }
 
@@ -20,7 +20,6 @@ import com.intellij.psi.PsiParameterList;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.codeStyle.JavaCodeStyleManager;
 import com.intellij.psi.util.PsiUtil;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import org.jetbrains.annotations.NotNull;
@@ -78,8 +77,6 @@ public abstract class BaseLombokHandler implements CodeInsightActionHandler {
         propertyMethod.delete();
       }
     }
-
-    UserMapKeys.updateLombokPresent(psiClass, true);
   }
 
   private boolean isNotAnnotatedWithOrSameAccessLevelAs(PsiClass psiClass, PsiMethod firstPropertyMethod, Class<? extends Annotation> annotationClass) {
@@ -114,7 +111,6 @@ public abstract class BaseLombokHandler implements CodeInsightActionHandler {
     final PsiAnnotation newPsiAnnotation = PsiAnnotationUtil.createPsiAnnotation(targetElement, annotationClass);
 
     addAnnotation(targetElement, newPsiAnnotation, annotationClass);
-    UserMapKeys.updateLombokPresent(targetElement, true);
   }
 
   private void addAnnotation(@NotNull PsiModifierListOwner targetElement, @NotNull PsiAnnotation newPsiAnnotation,
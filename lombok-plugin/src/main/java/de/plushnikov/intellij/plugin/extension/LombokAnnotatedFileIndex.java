@@ -0,0 +1,175 @@
+package de.plushnikov.intellij.plugin.extension;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.lexer.JavaLexer;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.JavaTokenType;
+import com.intellij.psi.impl.source.tree.ElementType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import de.plushnikov.intellij.plugin.processor.Processor;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of java source files, which contain at least one annotation supported by any lombok processor
+ * on a class or on a class member. Annotations are recognized by their simple name, based only on lexer tokens.
+ */
+public class LombokAnnotatedFileIndex extends ScalarIndexExtension<String> {
+  @NonNls
+  public static final ID<String, Void> NAME = ID.create("LombokAnnotatedFileIndex");
+
+  private static final String LOMBOK_ANNOTATED_KEY = "lombok";
+  private static final int INDEX_VERSION = 2;
+
+  // filled on first use by concurrently running indexer threads, so published as an unmodifiable set through a volatile field
+  private static volatile Collection<String> registeredAnnotationNames;
+
+  @NotNull
+  @Override
+  public ID<String, Void> getName() {
+    return NAME;
+  }
+
+  /**
+   * Checks if the file contains any of the supported lombok annotations
+   *
+   * @param project     current project
+   * @param virtualFile java source file
+   * @return true if lombok annotations are present
+   */
+  public static boolean containsLombokAnnotation(@NotNull Project project, @NotNull VirtualFile virtualFile) {
+    final boolean[] result = new boolean[1];
+    FileBasedIndex.getInstance().processValues(NAME, LOMBOK_ANNOTATED_KEY, virtualFile, new FileBasedIndex.ValueProcessor<Void>() {
+      @Override
+      public boolean process(VirtualFile file, Void value) {
+        result[0] = true;
+        return false;
+      }
+    }, GlobalSearchScope.fileScope(project, virtualFile));
+    return result[0];
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, Void, FileContent> getIndexer() {
+    return new DataIndexer<String, Void, FileContent>() {
+      @NotNull
+      @Override
+      public Map<String, Void> map(@NotNull FileContent inputData) {
+        final CharSequence fileText = inputData.getContentAsText();
+        if (StringUtil.indexOf(fileText, '@') >= 0 && containsAnnotation(fileText, getRegisteredAnnotationNames())) {
+          return Collections.singletonMap(LOMBOK_ANNOTATED_KEY, null);
+        }
+        return Collections.emptyMap();
+      }
+    };
+  }
+
+  private static boolean containsAnnotation(@NotNull CharSequence fileText, @NotNull Collection<String> annotationNames) {
+    final Lexer lexer = new JavaLexer(LanguageLevel.HIGHEST);
+    lexer.start(fileText);
+    while (null != lexer.getTokenType()) {
+      if (JavaTokenType.AT == lexer.getTokenType()) {
+        lexer.advance();
+        final String simpleName = readAnnotationSimpleName(lexer, fileText);
+        if (null != simpleName && annotationNames.contains(simpleName)) {
+          return true;
+        }
+      } else {
+        lexer.advance();
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Reads (possibly qualified) annotation name and returns its last part
+   */
+  @Nullable
+  static String readAnnotationSimpleName(@NotNull Lexer lexer, @NotNull CharSequence fileText) {
+    String result = null;
+    skipWhiteSpacesAndComments(lexer);
+    while (JavaTokenType.IDENTIFIER == lexer.getTokenType()) {
+      result = fileText.subSequence(lexer.getTokenStart(), lexer.getTokenEnd()).toString();
+      lexer.advance();
+      skipWhiteSpacesAndComments(lexer);
+      if (JavaTokenType.DOT != lexer.getTokenType()) {
+        break;
+      }
+      lexer.advance();
+      skipWhiteSpacesAndComments(lexer);
+    }
+    return result;
+  }
+
+  static void skipWhiteSpacesAndComments(@NotNull Lexer lexer) {
+    IElementType tokenType = lexer.getTokenType();
+    while (null != tokenType && ElementType.JAVA_COMMENT_OR_WHITESPACE_BIT_SET.contains(tokenType)) {
+      lexer.advance();
+      tokenType = lexer.getTokenType();
+    }
+  }
+
+  @NotNull
+  private static Collection<String> getRegisteredAnnotationNames() {
+    Collection<String> result = registeredAnnotationNames;
+    if (null == result) {
+      final Set<String> nameSet = new HashSet<String>();
+      for (Processor processor : LombokProcessorExtensionPoint.EP_NAME.getExtensions()) {
+        nameSet.add(processor.getSupportedAnnotationClass().getSimpleName());
+      }
+      result = Collections.unmodifiableSet(nameSet);
+      registeredAnnotationNames = result;
+    }
+    return result;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return new EnumeratorStringDescriptor();
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * Indexed data depends on the annotations of registered processors, so the version is derived from them too
+   */
+  @Override
+  public int getVersion() {
+    final List<String> sortedNames = new ArrayList<String>(getRegisteredAnnotationNames());
+    Collections.sort(sortedNames);
+    return (StringUtil.join(sortedNames, ",").hashCode() & 0xFFFFFF) * 16 + INDEX_VERSION;
+  }
+}
@@ -0,0 +1,343 @@
+package de.plushnikov.intellij.plugin.extension;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.lexer.JavaLexer;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.JavaTokenType;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.impl.source.tree.ElementType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import lombok.Builder;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of all builder classes generated by @Builder on classes, constructors and static methods:
+ * contains fully qualified names of builder classes (like 'foo.Bar.BarBuilder').
+ * Only lexer tokens of the file are used, neither PSI nor AST is built while indexing.
+ */
+public class LombokBuilderClassIndex extends ScalarIndexExtension<String> {
+  @NonNls
+  public static final ID<String, Void> NAME = ID.create("LombokBuilderClassIndex");
+
+  private static final String BUILDER_SIMPLE_NAME = Builder.class.getSimpleName();
+  private static final String ANNOTATION_BUILDER_CLASS_NAME = "builderClassName";
+  // increment whenever the computation of builder class names changes
+  private static final int INDEX_VERSION = 2;
+
+  @NotNull
+  @Override
+  public ID<String, Void> getName() {
+    return NAME;
+  }
+
+  /**
+   * Checks if there is a builder class with this qualified name in the scope
+   */
+  public static boolean containsBuilderClass(@NotNull String qualifiedName, @NotNull GlobalSearchScope scope) {
+    return !FileBasedIndex.getInstance().getContainingFiles(NAME, qualifiedName, scope).isEmpty();
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, Void, FileContent> getIndexer() {
+    return new DataIndexer<String, Void, FileContent>() {
+      @NotNull
+      @Override
+      public Map<String, Void> map(@NotNull FileContent inputData) {
+        final CharSequence fileText = inputData.getContentAsText();
+        if (!StringUtil.contains(fileText, BUILDER_SIMPLE_NAME)) {
+          return Collections.emptyMap();
+        }
+        return collectBuilderClassNames(fileText);
+      }
+    };
+  }
+
+  /**
+   * Walks the lexer tokens of the file and keeps track of the package and the enclosing named classes.
+   * Bodies of methods, initializers and anonymous classes are skipped, local classes don't have qualified names.
+   */
+  @NotNull
+  static Map<String, Void> collectBuilderClassNames(@NotNull CharSequence fileText) {
+    final Map<String, Void> result = new HashMap<String, Void>();
+    final Lexer lexer = new JavaLexer(LanguageLevel.HIGHEST);
+    lexer.start(fileText);
+    LombokAnnotatedFileIndex.skipWhiteSpacesAndComments(lexer);
+
+    String packageName = "";
+    final LinkedList<String> classNames = new LinkedList<String>();
+    String declaredClassName = null;
+
+    // tokens of the declaration annotated with @Builder, without annotations and modifiers
+    final List<Pair<IElementType, String>> declarationTokens = new ArrayList<Pair<IElementType, String>>();
+    boolean builderAnnotated = false;
+    String builderClassName = null;
+
+    IElementType previousTokenType = null;
+    IElementType tokenType;
+    while (null != (tokenType = lexer.getTokenType())) {
+      if (JavaTokenType.AT == tokenType) {
+        advance(lexer);
+        final String annotationName = LombokAnnotatedFileIndex.readAnnotationSimpleName(lexer, fileText);
+        if (BUILDER_SIMPLE_NAME.equals(annotationName)) {
+          builderAnnotated = true;
+          builderClassName = JavaTokenType.LPARENTH == lexer.getTokenType() ? readBuilderClassNameValue(lexer, fileText) : null;
+          declarationTokens.clear();
+        } else if (JavaTokenType.LPARENTH == lexer.getTokenType()) {
+          skipBalanced(lexer, JavaTokenType.LPARENTH, JavaTokenType.RPARENTH);
+        }
+      } else if (JavaTokenType.PACKAGE_KEYWORD == tokenType && classNames.isEmpty()) {
+        final StringBuilder packageText = new StringBuilder();
+        advance(lexer);
+        while (null != lexer.getTokenType() && JavaTokenType.SEMICOLON != lexer.getTokenType()) {
+          packageText.append(getTokenText(lexer, fileText));
+          advance(lexer);
+        }
+        packageName = packageText.toString();
+      } else if (JavaTokenType.IMPORT_KEYWORD == tokenType) {
+        while (null != lexer.getTokenType() && JavaTokenType.SEMICOLON != lexer.getTokenType()) {
+          advance(lexer);
+        }
+      } else if (isClassKeyword(tokenType) && JavaTokenType.DOT != previousTokenType) {
+        advance(lexer);
+        if (JavaTokenType.IDENTIFIER == lexer.getTokenType()) {
+          declaredClassName = getTokenText(lexer, fileText);
+          if (builderAnnotated) {
+            addBuilderClassName(result, getQualifiedName(packageName, classNames, declaredClassName), builderClassName, declaredClassName);
+          }
+          advance(lexer);
+        }
+        builderAnnotated = false;
+      } else if (JavaTokenType.LBRACE == tokenType) {
+        if (null != declaredClassName) {
+          classNames.addLast(declaredClassName);
+          declaredClassName = null;
+          advance(lexer);
+        } else {
+          skipBalanced(lexer, JavaTokenType.LBRACE, JavaTokenType.RBRACE);
+        }
+        builderAnnotated = false;
+      } else if (JavaTokenType.RBRACE == tokenType) {
+        if (!classNames.isEmpty()) {
+          classNames.removeLast();
+        }
+        advance(lexer);
+        builderAnnotated = false;
+      } else if (JavaTokenType.LPARENTH == tokenType) {
+        if (builderAnnotated && !classNames.isEmpty()) {
+          final String ownerQualifiedName = getQualifiedName(packageName, classNames, null);
+          addBuilderClassName(result, ownerQualifiedName, builderClassName, getBuilderTypeName(classNames.getLast(), declarationTokens));
+        }
+        skipBalanced(lexer, JavaTokenType.LPARENTH, JavaTokenType.RPARENTH);
+        builderAnnotated = false;
+      } else if (JavaTokenType.SEMICOLON == tokenType || JavaTokenType.EQ == tokenType) {
+        advance(lexer);
+        builderAnnotated = false;
+      } else {
+        if (builderAnnotated && !ElementType.MODIFIER_BIT_SET.contains(tokenType) && JavaTokenType.DEFAULT_KEYWORD != tokenType) {
+          declarationTokens.add(Pair.create(tokenType, getTokenText(lexer, fileText)));
+        }
+        advance(lexer);
+      }
+      previousTokenType = tokenType;
+    }
+    return result;
+  }
+
+  private static boolean isClassKeyword(@NotNull IElementType tokenType) {
+    return JavaTokenType.CLASS_KEYWORD == tokenType || JavaTokenType.INTERFACE_KEYWORD == tokenType || JavaTokenType.ENUM_KEYWORD == tokenType;
+  }
+
+  private static void advance(@NotNull Lexer lexer) {
+    lexer.advance();
+    LombokAnnotatedFileIndex.skipWhiteSpacesAndComments(lexer);
+  }
+
+  @NotNull
+  private static String getTokenText(@NotNull Lexer lexer, @NotNull CharSequence fileText) {
+    return fileText.subSequence(lexer.getTokenStart(), lexer.getTokenEnd()).toString();
+  }
+
+  /**
+   * Skips everything up to and including the closing token matching the current opening one
+   */
+  private static void skipBalanced(@NotNull Lexer lexer, @NotNull IElementType openingType, @NotNull IElementType closingType) {
+    int depth = 0;
+    IElementType tokenType;
+    while (null != (tokenType = lexer.getTokenType())) {
+      if (openingType == tokenType) {
+        depth++;
+      } else if (closingType == tokenType) {
+        depth--;
+      }
+      advance(lexer);
+      if (0 == depth) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Reads the parameters of a @Builder annotation and returns the literal value of 'builderClassName', if there is one
+   */
+  @Nullable
+  private static String readBuilderClassNameValue(@NotNull Lexer lexer, @NotNull CharSequence fileText) {
+    String result = null;
+    int depth = 0;
+    IElementType tokenType;
+    while (null != (tokenType = lexer.getTokenType())) {
+      if (JavaTokenType.LPARENTH == tokenType) {
+        depth++;
+      } else if (JavaTokenType.RPARENTH == tokenType) {
+        depth--;
+      } else if (1 == depth && JavaTokenType.IDENTIFIER == tokenType && ANNOTATION_BUILDER_CLASS_NAME.equals(getTokenText(lexer, fileText))) {
+        advance(lexer);
+        if (JavaTokenType.EQ == lexer.getTokenType()) {
+          advance(lexer);
+          if (JavaTokenType.STRING_LITERAL == lexer.getTokenType()) {
+            final String value = StringUtil.unquoteString(getTokenText(lexer, fileText));
+            if (!StringUtil.isEmptyOrSpaces(value)) {
+              result = value;
+            }
+          }
+        }
+        continue;
+      }
+      advance(lexer);
+      if (0 == depth) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  @NotNull
+  private static String getQualifiedName(@NotNull String packageName, @NotNull List<String> classNames, @Nullable String className) {
+    final StringBuilder result = new StringBuilder(packageName);
+    for (String name : classNames) {
+      appendQualifier(result, name);
+    }
+    if (null != className) {
+      appendQualifier(result, className);
+    }
+    return result.toString();
+  }
+
+  private static void appendQualifier(@NotNull StringBuilder result, @NotNull String name) {
+    if (result.length() > 0) {
+      result.append('.');
+    }
+    result.append(name);
+  }
+
+  private static void addBuilderClassName(@NotNull Map<String, Void> result, @NotNull String ownerQualifiedName,
+                                          @Nullable String builderClassName, @Nullable String builderTypeName) {
+    if (null == builderClassName && null != builderTypeName) {
+      builderClassName = StringUtil.capitalize(builderTypeName) + BUILDER_SIMPLE_NAME;
+    }
+    if (null != builderClassName) {
+      result.put(ownerQualifiedName + '.' + builderClassName, null);
+    }
+  }
+
+  /**
+   * Name of the type built by a @Builder on a constructor or a static method, see BuilderHandler.getBuilderClassName
+   *
+   * @param className         simple name of the containing class
+   * @param declarationTokens tokens of the method declaration up to the parameter list, without annotations and modifiers
+   */
+  @Nullable
+  private static String getBuilderTypeName(@NotNull String className, @NotNull List<Pair<IElementType, String>> declarationTokens) {
+    if (declarationTokens.isEmpty() || JavaTokenType.IDENTIFIER != declarationTokens.get(declarationTokens.size() - 1).getFirst()) {
+      return null;
+    }
+    int index = JavaTokenType.LT == declarationTokens.get(0).getFirst() ? skipTypeArguments(declarationTokens, 0) : 0;
+    final int typeEnd = declarationTokens.size() - 1;
+    if (index >= typeEnd) {
+      // no return type: constructor
+      return className;
+    }
+
+    final IElementType typeTokenType = declarationTokens.get(index).getFirst();
+    if (ElementType.PRIMITIVE_TYPE_BIT_SET.contains(typeTokenType)) {
+      if (index + 1 < typeEnd && JavaTokenType.LBRACKET == declarationTokens.get(index + 1).getFirst()) {
+        return null;
+      }
+      return JavaTokenType.VOID_KEYWORD == typeTokenType ? PsiType.VOID.getCanonicalText() : className;
+    }
+
+    // innermost component reference of a (possibly qualified and parametrized) type
+    String result = null;
+    while (index < typeEnd && JavaTokenType.IDENTIFIER == declarationTokens.get(index).getFirst()) {
+      result = declarationTokens.get(index).getSecond();
+      index++;
+      if (index < typeEnd && JavaTokenType.LT == declarationTokens.get(index).getFirst()) {
+        index = skipTypeArguments(declarationTokens, index);
+      }
+      if (index >= typeEnd || JavaTokenType.DOT != declarationTokens.get(index).getFirst()) {
+        break;
+      }
+      index++;
+    }
+    return result;
+  }
+
+  private static int skipTypeArguments(@NotNull List<Pair<IElementType, String>> tokens, int index) {
+    int depth = 0;
+    for (; index < tokens.size(); index++) {
+      final IElementType tokenType = tokens.get(index).getFirst();
+      if (JavaTokenType.LT == tokenType) {
+        depth++;
+      } else if (JavaTokenType.GT == tokenType) {
+        depth--;
+        if (0 == depth) {
+          return index + 1;
+        }
+      }
+    }
+    return index;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return new EnumeratorStringDescriptor();
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  @Override
+  public int getVersion() {
+    return INDEX_VERSION;
+  }
+}
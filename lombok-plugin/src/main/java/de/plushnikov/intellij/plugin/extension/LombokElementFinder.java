@@ -1,20 +1,26 @@
 package de.plushnikov.intellij.plugin.extension;
 
 import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElementFinder;
 import com.intellij.psi.impl.file.impl.JavaFileManager;
 import com.intellij.psi.search.GlobalSearchScope;
+import de.plushnikov.intellij.plugin.processor.handler.BuilderDescriptor;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import lombok.Builder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * Finds builder classes generated by @Builder by their qualified names.
+ * Names are checked against {@link LombokBuilderClassIndex} first, so the owner class is resolved only for real builder classes.
+ * Builders of the resolved owner class are confirmed by its cached {@link BuilderDescriptor}s.
+ */
 public class LombokElementFinder extends PsiElementFinder {
   @Nullable
   @Override
-  @SuppressWarnings("deprecation")
   public PsiClass findClass(@NotNull String qualifiedName, @NotNull GlobalSearchScope scope) {
     final Project project = scope.getProject();
     if (null == project) {
@@ -22,31 +28,37 @@ public class LombokElementFinder extends PsiElementFinder {
     }
 
     final int lastDot = qualifiedName.lastIndexOf('.');
-    if (lastDot < 0) {
+    if (lastDot <= 0 || lastDot == qualifiedName.length() - 1) {
       return null;
     }
-    final String shortName = qualifiedName.substring(lastDot + 1);
-    final String parentName = qualifiedName.substring(0, lastDot);
 
-    if (shortName.isEmpty() || parentName.isEmpty()) {
+    final boolean indexAvailable = !DumbService.isDumb(project);
+    if (indexAvailable && !LombokBuilderClassIndex.containsBuilderClass(qualifiedName, scope)) {
       return null;
     }
 
+    final String shortName = qualifiedName.substring(lastDot + 1);
+    final String parentName = qualifiedName.substring(0, lastDot);
+
     final JavaFileManager javaFileManager = ServiceManager.getService(project, JavaFileManager.class);
     if (null != javaFileManager) {
       final PsiClass parentClass = javaFileManager.findClass(parentName, scope);
-      if (null != parentClass) {
-        if (PsiAnnotationUtil.isAnnotatedWith(parentClass, Builder.class, lombok.experimental.Builder.class)) {
-          return parentClass.findInnerClassByName(shortName, false);
-        }
+      if (null != parentClass && (indexAvailable ? BuilderDescriptor.hasBuilderClass(parentClass, shortName) : isAnnotatedWithBuilder(parentClass))) {
+        return parentClass.findInnerClassByName(shortName, false);
       }
     }
     return null;
   }
 
+  @SuppressWarnings("deprecation")
+  private boolean isAnnotatedWithBuilder(@NotNull PsiClass parentClass) {
+    return PsiAnnotationUtil.isAnnotatedWith(parentClass, Builder.class, lombok.experimental.Builder.class);
+  }
+
   @NotNull
   @Override
   public PsiClass[] findClasses(@NotNull String qualifiedName, @NotNull GlobalSearchScope scope) {
-    return PsiClass.EMPTY_ARRAY;
+    final PsiClass psiClass = findClass(qualifiedName, scope);
+    return null == psiClass ? PsiClass.EMPTY_ARRAY : new PsiClass[]{psiClass};
   }
 }
@@ -3,41 +3,78 @@ package de.plushnikov.intellij.plugin.extension;
 import com.intellij.codeInsight.daemon.impl.HighlightInfo;
 import com.intellij.codeInsight.daemon.impl.HighlightInfoFilter;
 import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import de.plushnikov.intellij.plugin.handler.LazyGetterHandler;
 import de.plushnikov.intellij.plugin.handler.OnXAnnotationHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.regex.Pattern;
-
 public class LombokHighlightErrorFilter implements HighlightInfoFilter {
-  private static final Pattern UNINITIALIZED_MESSAGE = Pattern.compile("Variable '.+' might not have been initialized");
-  private static final Pattern LOMBOK_ANYANNOTATIONREQUIRED = Pattern.compile("Incompatible types\\. Found: '__*', required: 'lombok.*AnyAnnotation\\[\\]'");
+  private static final Key<CachedValue<Boolean>> CONTAINS_LOMBOK_KEY = Key.create("lombok.highlight.filter.contains.lombok");
+  private static final String LOMBOK_PACKAGE = "lombok";
+
+  // Variable '.+' might not have been initialized
+  private static final String UNINITIALIZED_MESSAGE_PREFIX = "Variable '";
+  private static final String UNINITIALIZED_MESSAGE_SUFFIX = "' might not have been initialized";
+  // Incompatible types. Found: '__*', required: 'lombok.*AnyAnnotation[]'
+  private static final String ANYANNOTATIONREQUIRED_PREFIX = "Incompatible types. Found: '";
+  private static final String ANYANNOTATIONREQUIRED_INFIX = "', required: 'lombok";
+  private static final String ANYANNOTATIONREQUIRED_SUFFIX = "AnyAnnotation[]'";
 
   @Override
   public boolean accept(@NotNull HighlightInfo highlightInfo, @Nullable PsiFile file) {
-    if (null != file && HighlightSeverity.ERROR.equals(highlightInfo.getSeverity())) {
+    if (null != file && HighlightSeverity.ERROR.equals(highlightInfo.getSeverity()) && containsLombok(file)) {
 
       String description = StringUtil.notNullize(highlightInfo.getDescription());
-      
+
       // Handling LazyGetter
       if (uninitializedField(description) && LazyGetterHandler.isLazyGetterHandled(highlightInfo, file)) {
         return false;
       }
-      
+
       //Handling onX parameters
       if (OnXAnnotationHandler.isOnXParameterAnnotation(highlightInfo, file)
           || OnXAnnotationHandler.isOnXParameterValue(highlightInfo, file)
-          || LOMBOK_ANYANNOTATIONREQUIRED.matcher(description).matches()) {
+          || anyAnnotationRequired(description)) {
         return false;
       }
     }
     return true;
   }
 
-  private boolean uninitializedField(String description) {
-    return UNINITIALIZED_MESSAGE.matcher(description).matches();
+  /**
+   * Every lombok annotation has to be imported or used with its qualified name, so files without 'lombok' in the text
+   * can't have errors to filter. Cached until the next modification of the file
+   */
+  private boolean containsLombok(@NotNull final PsiFile file) {
+    return CachedValuesManager.getManager(file.getProject()).getCachedValue(file, CONTAINS_LOMBOK_KEY,
+        new CachedValueProvider<Boolean>() {
+          @Nullable
+          @Override
+          public Result<Boolean> compute() {
+            return Result.create(StringUtil.contains(file.getViewProvider().getContents(), LOMBOK_PACKAGE), file);
+          }
+        }, false);
+  }
+
+  static boolean uninitializedField(String description) {
+    return description.length() > UNINITIALIZED_MESSAGE_PREFIX.length() + UNINITIALIZED_MESSAGE_SUFFIX.length()
+        && description.startsWith(UNINITIALIZED_MESSAGE_PREFIX)
+        && description.endsWith(UNINITIALIZED_MESSAGE_SUFFIX);
+  }
+
+  static boolean anyAnnotationRequired(String description) {
+    if (description.startsWith(ANYANNOTATIONREQUIRED_PREFIX) && description.endsWith(ANYANNOTATIONREQUIRED_SUFFIX)) {
+      final int foundEnd = description.indexOf(ANYANNOTATIONREQUIRED_INFIX, ANYANNOTATIONREQUIRED_PREFIX.length());
+      return foundEnd >= 0
+          && foundEnd + ANYANNOTATIONREQUIRED_INFIX.length() <= description.length() - ANYANNOTATIONREQUIRED_SUFFIX.length()
+          && OnXAnnotationHandler.isUnderscores(description.subSequence(ANYANNOTATIONREQUIRED_PREFIX.length(), foundEnd));
+    }
+    return false;
   }
 }
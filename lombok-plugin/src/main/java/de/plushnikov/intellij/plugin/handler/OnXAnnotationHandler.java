@@ -9,11 +9,10 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiNameValuePair;
 
-import java.util.regex.Pattern;
-
 public class OnXAnnotationHandler {
-  private static final Pattern UNDERSCORES = Pattern.compile("__*");
-  private static final Pattern CANNOT_RESOLVE_UNDERSCORES_MESSAGE = Pattern.compile("Cannot resolve symbol '__*'");
+  // Cannot resolve symbol '__*'
+  private static final String CANNOT_RESOLVE_MESSAGE_PREFIX = "Cannot resolve symbol '";
+  private static final String CANNOT_RESOLVE_MESSAGE_SUFFIX = "'";
   
   private static final String ANNOTATION_TYPE_EXPECTED = "Annotation type expected";
   private static final String CANNOT_FIND_METHOD_VALUE_MESSAGE = "Cannot find method 'value'";
@@ -35,7 +34,7 @@ public class OnXAnnotationHandler {
 
   public static boolean isOnXParameterAnnotation(HighlightInfo highlightInfo, PsiFile file) {
     if (!(ANNOTATION_TYPE_EXPECTED.equals(highlightInfo.getDescription())
-        || CANNOT_RESOLVE_UNDERSCORES_MESSAGE.matcher(StringUtil.notNullize(highlightInfo.getDescription())).matches())) {
+        || isCannotResolveUnderscores(StringUtil.notNullize(highlightInfo.getDescription())))) {
       return false;
     }
     
@@ -67,7 +66,29 @@ public class OnXAnnotationHandler {
     }
 
     PsiElement leftSibling = nameValuePair.getContext().getPrevSibling();
-    return (leftSibling != null && UNDERSCORES.matcher(StringUtil.notNullize(leftSibling.getText())).matches());
+    return (leftSibling != null && isUnderscores(StringUtil.notNullize(leftSibling.getText())));
+  }
+
+  /**
+   * @return true if the text is not empty and consists of underscores only
+   */
+  public static boolean isUnderscores(CharSequence text) {
+    if (text.length() == 0) {
+      return false;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) != '_') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static boolean isCannotResolveUnderscores(String description) {
+    return description.length() > CANNOT_RESOLVE_MESSAGE_PREFIX.length() + CANNOT_RESOLVE_MESSAGE_SUFFIX.length()
+        && description.startsWith(CANNOT_RESOLVE_MESSAGE_PREFIX)
+        && description.endsWith(CANNOT_RESOLVE_MESSAGE_SUFFIX)
+        && isUnderscores(description.subSequence(CANNOT_RESOLVE_MESSAGE_PREFIX.length(), description.length() - CANNOT_RESOLVE_MESSAGE_SUFFIX.length()));
   }
 
   private static PsiNameValuePair findContainingNameValuePair(PsiElement highlightedElement) {
@@ -2,6 +2,7 @@ package de.plushnikov.intellij.plugin.handler;
 
 import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.codeInsight.CustomExceptionHandler;
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiClassType;
@@ -10,19 +11,32 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTreeUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import lombok.SneakyThrows;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class SneakyThrowsExceptionHandler extends CustomExceptionHandler {
   private static final String ANNOTATION_FQN = SneakyThrows.class.getName();
 
   private static final String JAVA_LANG_THROWABLE = "java.lang.Throwable";
 
+  private static final Key<CachedValue<SneakyThrowsInfo>> SNEAKY_THROWS_INFO_KEY = Key.create("lombok.sneaky.throws.info");
+
   @Override
   public boolean isHandled(@Nullable PsiElement element, @NotNull PsiClassType exceptionType, PsiElement topElement) {
     if (!(topElement instanceof PsiCodeBlock)) {
@@ -33,38 +47,99 @@ public class SneakyThrowsExceptionHandler extends CustomExceptionHandler {
   }
 
   public boolean isExceptionHandled(@NotNull PsiModifierListOwner psiModifierListOwner, PsiClassType exceptionClassType) {
+    return getSneakyThrowsInfo(psiModifierListOwner).isHandled(exceptionClassType);
+  }
+
+  /**
+   * Returns resolved @SneakyThrows of the method, cached until the next PSI modification
+   */
+  @NotNull
+  private SneakyThrowsInfo getSneakyThrowsInfo(@NotNull final PsiModifierListOwner psiModifierListOwner) {
+    return CachedValuesManager.getManager(psiModifierListOwner.getProject()).getCachedValue(psiModifierListOwner, SNEAKY_THROWS_INFO_KEY,
+        new CachedValueProvider<SneakyThrowsInfo>() {
+          @Nullable
+          @Override
+          public Result<SneakyThrowsInfo> compute() {
+            return Result.create(createSneakyThrowsInfo(psiModifierListOwner), PsiModificationTracker.MODIFICATION_COUNT);
+          }
+        }, false);
+  }
+
+  @NotNull
+  private SneakyThrowsInfo createSneakyThrowsInfo(@NotNull PsiModifierListOwner psiModifierListOwner) {
     final PsiAnnotation psiAnnotation = AnnotationUtil.findAnnotation(psiModifierListOwner, ANNOTATION_FQN);
     if (psiAnnotation == null) {
-      return false;
+      return SneakyThrowsInfo.NOT_ANNOTATED;
     }
 
     final Collection<PsiType> sneakedExceptionTypes = PsiAnnotationUtil.getAnnotationValues(psiAnnotation, PsiAnnotation.DEFAULT_REFERENCED_METHOD_NAME, PsiType.class);
     //Default SneakyThrows handles all exceptions
-    return sneakedExceptionTypes.isEmpty()
-        || sneakedExceptionTypes.iterator().next().equalsToText(JAVA_LANG_THROWABLE)
-        || isExceptionHandled(exceptionClassType, sneakedExceptionTypes);
-  }
+    if (sneakedExceptionTypes.isEmpty()) {
+      return SneakyThrowsInfo.HANDLES_ALL;
+    }
 
-  private boolean isExceptionHandled(@NotNull PsiClassType exceptionClassType, @NotNull Collection<PsiType> sneakedExceptionTypes) {
+    final Set<String> sneakedTypeNames = new HashSet<String>(sneakedExceptionTypes.size());
+    final List<PsiClass> sneakedClasses = new ArrayList<PsiClass>(sneakedExceptionTypes.size());
     for (PsiType sneakedExceptionType : sneakedExceptionTypes) {
-      if (sneakedExceptionType.equalsToText(JAVA_LANG_THROWABLE) || sneakedExceptionType.equals(exceptionClassType)) {
-        return true;
+      if (sneakedExceptionType.equalsToText(JAVA_LANG_THROWABLE)) {
+        return SneakyThrowsInfo.HANDLES_ALL;
+      }
+      sneakedTypeNames.add(sneakedExceptionType.getCanonicalText());
+      if (sneakedExceptionType instanceof PsiClassType) {
+        final PsiClass sneakedExceptionClass = ((PsiClassType) sneakedExceptionType).resolve();
+        if (null != sneakedExceptionClass) {
+          sneakedClasses.add(sneakedExceptionClass);
+        }
       }
     }
+    return new SneakyThrowsInfo(false, sneakedTypeNames, sneakedClasses);
+  }
+
+  /**
+   * Sneaked exceptions of one method together with already computed answers for checked exceptions
+   */
+  private static class SneakyThrowsInfo {
+    private static final SneakyThrowsInfo NOT_ANNOTATED = new SneakyThrowsInfo(false, Collections.<String>emptySet(), Collections.<PsiClass>emptyList());
+    private static final SneakyThrowsInfo HANDLES_ALL = new SneakyThrowsInfo(true, Collections.<String>emptySet(), Collections.<PsiClass>emptyList());
+
+    private final boolean handlesAll;
+    private final Set<String> sneakedTypeNames;
+    private final List<PsiClass> sneakedClasses;
+    private final ConcurrentMap<String, Boolean> handledExceptions = new ConcurrentHashMap<String, Boolean>();
 
-    final PsiClass unhandledExceptionClass = exceptionClassType.resolve();
+    private SneakyThrowsInfo(boolean handlesAll, @NotNull Set<String> sneakedTypeNames, @NotNull List<PsiClass> sneakedClasses) {
+      this.handlesAll = handlesAll;
+      this.sneakedTypeNames = sneakedTypeNames;
+      this.sneakedClasses = sneakedClasses;
+    }
+
+    private boolean isHandled(@NotNull PsiClassType exceptionClassType) {
+      if (handlesAll) {
+        return true;
+      }
+      if (sneakedTypeNames.isEmpty()) {
+        return false;
+      }
 
-    if (null != unhandledExceptionClass) {
-      for (PsiType sneakedExceptionType : sneakedExceptionTypes) {
-        if (sneakedExceptionType instanceof PsiClassType) {
-          final PsiClass sneakedExceptionClass = ((PsiClassType) sneakedExceptionType).resolve();
+      final String exceptionTypeName = exceptionClassType.getCanonicalText();
+      Boolean result = handledExceptions.get(exceptionTypeName);
+      if (null == result) {
+        result = sneakedTypeNames.contains(exceptionTypeName) || isInheritorOfSneakedClass(exceptionClassType);
+        handledExceptions.put(exceptionTypeName, result);
+      }
+      return result;
+    }
 
-          if (null != sneakedExceptionClass && unhandledExceptionClass.isInheritor(sneakedExceptionClass, true)) {
+    private boolean isInheritorOfSneakedClass(@NotNull PsiClassType exceptionClassType) {
+      final PsiClass unhandledExceptionClass = exceptionClassType.resolve();
+      if (null != unhandledExceptionClass) {
+        for (PsiClass sneakedExceptionClass : sneakedClasses) {
+          if (unhandledExceptionClass.isInheritor(sneakedExceptionClass, true)) {
             return true;
           }
         }
       }
+      return false;
     }
-    return false;
   }
 }
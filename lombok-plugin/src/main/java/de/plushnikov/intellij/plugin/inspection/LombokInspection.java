@@ -4,22 +4,25 @@ import com.intellij.codeInsight.daemon.GroupNames;
 import com.intellij.codeInspection.BaseJavaLocalInspectionTool;
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.JavaElementVisitor;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
 import com.intellij.psi.PsiTypeElement;
 import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.processor.Processor;
 import de.plushnikov.intellij.plugin.processor.ValProcessor;
-import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Plushnikov Michail
@@ -28,6 +31,7 @@ public class LombokInspection extends BaseJavaLocalInspectionTool {
   private static final Logger LOG = Logger.getInstance(LombokInspection.class.getName());
 
   private final Map<String, Collection<Processor>> allProblemHandlers;
+  private final Set<String> allProblemHandlerShortNames;
 
   private final ValProcessor valProcessor;
 
@@ -35,6 +39,7 @@ public class LombokInspection extends BaseJavaLocalInspectionTool {
     valProcessor = new ValProcessor();
 
     allProblemHandlers = new HashMap<String, Collection<Processor>>();
+    allProblemHandlerShortNames = new HashSet<String>();
     for (Processor lombokInspector : LombokProcessorExtensionPoint.EP_NAME.getExtensions()) {
       Collection<Processor> inspectorCollection = allProblemHandlers.get(lombokInspector.getSupportedAnnotation());
       if (null == inspectorCollection) {
@@ -42,6 +47,7 @@ public class LombokInspection extends BaseJavaLocalInspectionTool {
         allProblemHandlers.put(lombokInspector.getSupportedAnnotation(), inspectorCollection);
       }
       inspectorCollection.add(lombokInspector);
+      allProblemHandlerShortNames.add(StringUtil.getShortName(lombokInspector.getSupportedAnnotation()));
 
       LOG.debug(String.format("LombokInspection registered %s inspector", lombokInspector));
     }
@@ -79,33 +85,53 @@ public class LombokInspection extends BaseJavaLocalInspectionTool {
   private class LombokElementVisitor extends JavaElementVisitor {
 
     private final ProblemsHolder holder;
+    private final boolean valPossible;
+    // reused for all annotations of the visited file, problems are deduplicated by message
+    private final List<LombokProblem> problemBuffer = new ArrayList<LombokProblem>();
 
     public LombokElementVisitor(ProblemsHolder holder) {
       this.holder = holder;
+      this.valPossible = valProcessor.isValPossibleInFile(holder.getFile());
     }
 
     @Override
     public void visitTypeElement(PsiTypeElement type) {
       super.visitTypeElement(type);
 
-      valProcessor.verifyTypeElement(type, holder);
+      if (valPossible) {
+        valProcessor.verifyTypeElement(type, holder);
+      }
     }
 
     @Override
     public void visitAnnotation(PsiAnnotation annotation) {
       super.visitAnnotation(annotation);
 
-      final String qualifiedName = annotation.getQualifiedName();
-      if (StringUtils.isNotBlank(qualifiedName) && allProblemHandlers.containsKey(qualifiedName)) {
-        final Collection<LombokProblem> problems = new HashSet<LombokProblem>();
+      // resolve only annotations with a simple name of one of lombok annotations
+      final PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
+      if (null == referenceElement || !allProblemHandlerShortNames.contains(referenceElement.getReferenceName())) {
+        return;
+      }
 
-        for (Processor inspector : allProblemHandlers.get(qualifiedName)) {
-          problems.addAll(inspector.verifyAnnotation(annotation));
+      final String qualifiedName = annotation.getQualifiedName();
+      final Collection<Processor> processors = null == qualifiedName ? null : allProblemHandlers.get(qualifiedName);
+      if (null != processors) {
+        problemBuffer.clear();
+        for (Processor inspector : processors) {
+          if (!inspector.isEnabled(annotation.getProject())) {
+            continue;
+          }
+          for (LombokProblem problem : inspector.verifyAnnotation(annotation)) {
+            if (!problemBuffer.contains(problem)) {
+              problemBuffer.add(problem);
+            }
+          }
         }
 
-        for (LombokProblem problem : problems) {
+        for (LombokProblem problem : problemBuffer) {
           holder.registerProblem(annotation, problem.getMessage(), problem.getHighlightType(), problem.getQuickFixes());
         }
+        problemBuffer.clear();
       }
     }
   }
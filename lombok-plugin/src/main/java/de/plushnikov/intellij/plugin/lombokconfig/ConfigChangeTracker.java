@@ -0,0 +1,101 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.openapi.editor.event.DocumentAdapter;
+import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Modification tracker for the content and location of all lombok.config files.
+ * Used as dependency for all caches, which depend on data of {@link LombokConfigIndex}
+ */
+public class ConfigChangeTracker implements ModificationTracker {
+  private static final String LOMBOK_CONFIG_FILE_NAME = "lombok.config";
+
+  private static final ConfigChangeTracker ourInstance = new ConfigChangeTracker();
+
+  private final AtomicLong modificationCount = new AtomicLong();
+  private boolean installed;
+
+  public static ConfigChangeTracker getInstance() {
+    return ourInstance;
+  }
+
+  private ConfigChangeTracker() {
+  }
+
+  @Override
+  public long getModificationCount() {
+    return modificationCount.get();
+  }
+
+  public void incModificationCount() {
+    modificationCount.incrementAndGet();
+  }
+
+  /**
+   * Registers listeners for changes of lombok.config files in editor and in file system, they are removed with the parent
+   */
+  public synchronized void install(@NotNull Disposable parentDisposable) {
+    if (installed) {
+      return;
+    }
+    installed = true;
+
+    EditorFactory.getInstance().getEventMulticaster().addDocumentListener(new DocumentAdapter() {
+      @Override
+      public void documentChanged(DocumentEvent event) {
+        final VirtualFile virtualFile = FileDocumentManager.getInstance().getFile(event.getDocument());
+        if (null != virtualFile && isLombokConfigName(virtualFile.getName())) {
+          incModificationCount();
+        }
+      }
+    }, parentDisposable);
+
+    ApplicationManager.getApplication().getMessageBus().connect(parentDisposable).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener.Adapter() {
+      @Override
+      public void after(@NotNull List<? extends VFileEvent> events) {
+        for (VFileEvent event : events) {
+          if (isLombokConfigRelevant(event)) {
+            incModificationCount();
+            break;
+          }
+        }
+      }
+    });
+  }
+
+  private static boolean isLombokConfigRelevant(@NotNull VFileEvent event) {
+    if (event.getPath().endsWith("/" + LOMBOK_CONFIG_FILE_NAME)) {
+      return true;
+    }
+    if (event instanceof VFilePropertyChangeEvent) {
+      final VFilePropertyChangeEvent propertyChangeEvent = (VFilePropertyChangeEvent) event;
+      if (VirtualFile.PROP_NAME.equals(propertyChangeEvent.getPropertyName())) {
+        // renaming of directories changes packages of all contained lombok.config files
+        return propertyChangeEvent.getFile().isDirectory() || isLombokConfigName(String.valueOf(propertyChangeEvent.getOldValue()));
+      }
+    }
+    if (event instanceof VFileMoveEvent) {
+      return ((VFileMoveEvent) event).getFile().isDirectory();
+    }
+    return false;
+  }
+
+  private static boolean isLombokConfigName(@NotNull String fileName) {
+    return LOMBOK_CONFIG_FILE_NAME.equals(fileName);
+  }
+}
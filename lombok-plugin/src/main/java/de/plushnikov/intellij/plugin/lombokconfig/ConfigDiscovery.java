@@ -1,16 +1,29 @@
 package de.plushnikov.intellij.plugin.lombokconfig;
 
-import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.util.indexing.FileBasedIndex;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class ConfigDiscovery {
+  private static final Key<CachedValue<ConcurrentMap<String, Map<ConfigKeys, List<String>>>>> CONFIG_SNAPSHOTS_KEY = Key.create("lombok.config.snapshots");
+
   private static ConfigDiscovery ourInstance = new ConfigDiscovery();
 
   public static ConfigDiscovery getInstance() {
@@ -22,41 +35,116 @@ public class ConfigDiscovery {
 
   @NotNull
   public String getStringLombokConfigProperty(@NotNull ConfigKeys configKey, @NotNull PsiClass psiClass) {
+    final List<String> values = getConfigValues(configKey, psiClass);
+    return values.isEmpty() ? configKey.getConfigDefaultValue() : values.get(values.size() - 1);
+  }
+
+  /**
+   * Returns all values of a list valued config key (like lombok.accessors.prefix),
+   * accumulated from '+=', '-=' and 'clear' lines of all lombok.config files up to the root or to config.stopBubbling
+   */
+  @NotNull
+  public String[] getMultipleValueLombokConfigProperty(@NotNull ConfigKeys configKey, @NotNull PsiClass psiClass) {
+    final List<String> values = getConfigValues(configKey, psiClass);
+    return values.toArray(new String[values.size()]);
+  }
+
+  @NotNull
+  private List<String> getConfigValues(@NotNull ConfigKeys configKey, @NotNull PsiClass psiClass) {
     final PsiFile psiFile = psiClass.getContainingFile();
-    if (psiFile instanceof PsiJavaFile) {
-      final FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
-      final GlobalSearchScope searchScope = GlobalSearchScope.projectScope(psiClass.getProject());
-
-      String packageName = ((PsiJavaFile) psiFile).getPackageName();
-      while (null != packageName) {
-
-        final String property = readProperty(fileBasedIndex, searchScope, packageName, configKey);
-        if (null == property) {
-          final String stopBublingProperty = readProperty(fileBasedIndex, searchScope, packageName, ConfigKeys.CONFIG_STOP_BUBBLING);
-          if (Boolean.parseBoolean(stopBublingProperty)) {
-            break;
-          }
-        } else {
-          return property;
+    if (null != psiFile) {
+      final VirtualFile virtualFile = psiFile.getOriginalFile().getVirtualFile();
+      if (null != virtualFile && null != virtualFile.getParent()) {
+        final List<String> values = getConfigSnapshot(psiClass.getProject(), virtualFile.getParent()).get(configKey);
+        if (null != values) {
+          return values;
         }
+      }
+    }
+    return Collections.emptyList();
+  }
+
+  /**
+   * Returns all config values, resolved for the directory.
+   * Snapshots are cached per project until some lombok.config file or project structure is changed
+   */
+  @NotNull
+  private Map<ConfigKeys, List<String>> getConfigSnapshot(@NotNull final Project project, @NotNull VirtualFile directory) {
+    final ConcurrentMap<String, Map<ConfigKeys, List<String>>> configSnapshots = CachedValuesManager.getManager(project).getCachedValue(project, CONFIG_SNAPSHOTS_KEY,
+        new CachedValueProvider<ConcurrentMap<String, Map<ConfigKeys, List<String>>>>() {
+          @Nullable
+          @Override
+          public Result<ConcurrentMap<String, Map<ConfigKeys, List<String>>>> compute() {
+            return Result.<ConcurrentMap<String, Map<ConfigKeys, List<String>>>>create(new ConcurrentHashMap<String, Map<ConfigKeys, List<String>>>(),
+                ConfigChangeTracker.getInstance(), ProjectRootManager.getInstance(project));
+          }
+        }, false);
 
-        if (!packageName.isEmpty()) {
-          packageName = StringUtil.getPackageName(packageName);
-        } else {
-          packageName = null;
+    Map<ConfigKeys, List<String>> result = configSnapshots.get(directory.getPath());
+    if (null == result) {
+      result = resolveConfigSnapshot(FileBasedIndex.getInstance(), GlobalSearchScope.projectScope(project), configSnapshots, directory);
+    }
+    return result;
+  }
+
+  @NotNull
+  private Map<ConfigKeys, List<String>> resolveConfigSnapshot(@NotNull FileBasedIndex fileBasedIndex, @NotNull GlobalSearchScope searchScope,
+                                                              @NotNull ConcurrentMap<String, Map<ConfigKeys, List<String>>> configSnapshots,
+                                                              @NotNull VirtualFile directory) {
+    final String directoryPath = directory.getPath();
+    Map<ConfigKeys, List<String>> result = configSnapshots.get(directoryPath);
+    if (null != result) {
+      return result;
+    }
+
+    final Map<String, ConfigValue> directoryConfigValues = readConfigValues(fileBasedIndex, searchScope, directoryPath);
+
+    final boolean stopBubbling = isStopBubbling(directoryConfigValues);
+    final VirtualFile parentDirectory = directory.getParent();
+    final Map<ConfigKeys, List<String>> parentSnapshot;
+    if (stopBubbling || null == parentDirectory) {
+      parentSnapshot = Collections.emptyMap();
+    } else {
+      parentSnapshot = resolveConfigSnapshot(fileBasedIndex, searchScope, configSnapshots, parentDirectory);
+    }
+
+    if (directoryConfigValues.isEmpty()) {
+      result = parentSnapshot;
+    } else {
+      result = new EnumMap<ConfigKeys, List<String>>(ConfigKeys.class);
+      for (ConfigKeys configKey : ConfigKeys.values()) {
+        final List<String> parentValues = parentSnapshot.get(configKey);
+        final ConfigValue configValue = directoryConfigValues.get(configKey.getConfigKey());
+        if (null != configValue) {
+          final List<String> values = configValue.applyTo(null == parentValues ? Collections.<String>emptyList() : parentValues);
+          result.put(configKey, Collections.unmodifiableList(values));
+        } else if (null != parentValues) {
+          result.put(configKey, parentValues);
         }
       }
+      result = Collections.unmodifiableMap(result);
     }
-    return configKey.getConfigDefaultValue();
+
+    final Map<ConfigKeys, List<String>> previousResult = configSnapshots.putIfAbsent(directoryPath, result);
+    return null == previousResult ? result : previousResult;
   }
 
-  private String readProperty(FileBasedIndex fileBasedIndex, GlobalSearchScope searchScope, String packageName, ConfigKeys configKey) {
-    final ConfigIndexKey configIndexKey = new ConfigIndexKey(packageName, configKey.getConfigKey());
-    final List<String> values = fileBasedIndex.getValues(LombokConfigIndex.NAME, configIndexKey, searchScope);
+  private boolean isStopBubbling(@NotNull Map<String, ConfigValue> directoryConfigValues) {
+    final ConfigValue stopBubblingValue = directoryConfigValues.get(ConfigKeys.CONFIG_STOP_BUBBLING.getConfigKey());
+    if (null != stopBubblingValue) {
+      final List<String> values = stopBubblingValue.applyTo(Collections.<String>emptyList());
+      return !values.isEmpty() && Boolean.parseBoolean(values.get(values.size() - 1));
+    }
+    return false;
+  }
+
+  @NotNull
+  private Map<String, ConfigValue> readConfigValues(FileBasedIndex fileBasedIndex, GlobalSearchScope searchScope, String directoryPath) {
+    final List<Map<String, ConfigValue>> values = fileBasedIndex.getValues(LombokConfigIndex.NAME, directoryPath, searchScope);
     if (!values.isEmpty()) {
       return values.iterator().next();
     }
-    return null;
+    return Collections.emptyMap();
   }
 
   public boolean getBooleanLombokConfigProperty(@NotNull ConfigKeys configKey, @NotNull PsiClass psiClass) {
@@ -0,0 +1,132 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Summary of all operations on one config key inside of one lombok.config file:
+ * <ul>
+ * <li>'key = value' and 'clear key' reset all values inherited from parent directories</li>
+ * <li>'key += value' and 'key -= value' modify list of values inherited from parent directories</li>
+ * </ul>
+ */
+public class ConfigValue {
+  private String value;
+  private boolean clearParent;
+  private final Collection<String> addedValues;
+  private final Collection<String> removedValues;
+
+  public ConfigValue() {
+    this(null, false, new LinkedHashSet<String>(), new LinkedHashSet<String>());
+  }
+
+  ConfigValue(@Nullable String value, boolean clearParent, @NotNull Collection<String> addedValues, @NotNull Collection<String> removedValues) {
+    this.value = value;
+    this.clearParent = clearParent;
+    this.addedValues = addedValues;
+    this.removedValues = removedValues;
+  }
+
+  public void set(@NotNull String newValue) {
+    clear();
+    value = newValue;
+  }
+
+  public void clear() {
+    value = null;
+    clearParent = true;
+    addedValues.clear();
+    removedValues.clear();
+  }
+
+  public void add(@NotNull String newValue) {
+    removedValues.remove(newValue);
+    addedValues.add(newValue);
+  }
+
+  public void remove(@NotNull String oldValue) {
+    addedValues.remove(oldValue);
+    removedValues.add(oldValue);
+  }
+
+  @Nullable
+  public String getValue() {
+    return value;
+  }
+
+  public boolean isClearParent() {
+    return clearParent;
+  }
+
+  @NotNull
+  public Collection<String> getAddedValues() {
+    return addedValues;
+  }
+
+  @NotNull
+  public Collection<String> getRemovedValues() {
+    return removedValues;
+  }
+
+  /**
+   * Applies operations of this config file to the values resolved for the parent directory
+   *
+   * @param parentValues values resolved for the parent directory
+   * @return resolved values for current directory
+   */
+  @NotNull
+  public List<String> applyTo(@NotNull Collection<String> parentValues) {
+    final List<String> result = new ArrayList<String>();
+    if (clearParent) {
+      if (null != value) {
+        result.add(value);
+      }
+    } else {
+      result.addAll(parentValues);
+    }
+    result.removeAll(removedValues);
+    for (String addedValue : addedValues) {
+      if (!result.contains(addedValue)) {
+        result.add(addedValue);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    ConfigValue that = (ConfigValue) o;
+
+    if (clearParent != that.clearParent) {
+      return false;
+    }
+    if (value != null ? !value.equals(that.value) : that.value != null) {
+      return false;
+    }
+    if (!addedValues.equals(that.addedValues)) {
+      return false;
+    }
+    return removedValues.equals(that.removedValues);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = value != null ? value.hashCode() : 0;
+    result = 31 * result + (clearParent ? 1 : 0);
+    result = 31 * result + addedValues.hashCode();
+    result = 31 * result + removedValues.hashCode();
+    return result;
+  }
+}
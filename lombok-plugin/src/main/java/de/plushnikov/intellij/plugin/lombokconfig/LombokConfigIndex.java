@@ -1,10 +1,9 @@
 package de.plushnikov.intellij.plugin.lombokconfig;
 
+import com.intellij.lexer.Lexer;
 import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.psi.JavaDirectoryService;
-import com.intellij.psi.PsiDirectory;
-import com.intellij.psi.PsiManager;
-import com.intellij.psi.PsiPackage;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.tree.IElementType;
 import com.intellij.util.indexing.DataIndexer;
 import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
 import com.intellij.util.indexing.FileBasedIndex;
@@ -15,86 +14,170 @@ import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import de.plushnikov.intellij.plugin.language.LombokConfigFileType;
-import de.plushnikov.intellij.plugin.language.psi.LombokConfigFile;
-import de.plushnikov.intellij.plugin.language.psi.LombokConfigProperty;
+import de.plushnikov.intellij.plugin.language.LombokConfigLexerAdapter;
+import de.plushnikov.intellij.plugin.language.psi.LombokConfigTypes;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 
-public class LombokConfigIndex extends FileBasedIndexExtension<ConfigIndexKey, String> {
+/**
+ * Index of all lombok.config files: maps path of the containing directory to the operations on all config keys of the file.
+ * Indexing is based on lexer tokens only, resolving of directories to packages is done by {@link ConfigDiscovery} at query time.
+ */
+public class LombokConfigIndex extends FileBasedIndexExtension<String, Map<String, ConfigValue>> {
   @NonNls
-  public static final ID<ConfigIndexKey, String> NAME = ID.create("LombokConfigIndex");
+  public static final ID<String, Map<String, ConfigValue>> NAME = ID.create("LombokConfigIndex");
 
   @NotNull
   @Override
-  public ID<ConfigIndexKey, String> getName() {
+  public ID<String, Map<String, ConfigValue>> getName() {
     return NAME;
   }
 
   @NotNull
   @Override
-  public DataIndexer<ConfigIndexKey, String, FileContent> getIndexer() {
-    return new DataIndexer<ConfigIndexKey, String, FileContent>() {
+  public DataIndexer<String, Map<String, ConfigValue>, FileContent> getIndexer() {
+    return new DataIndexer<String, Map<String, ConfigValue>, FileContent>() {
       @NotNull
       @Override
-      public Map<ConfigIndexKey, String> map(@NotNull FileContent inputData) {
-        Map<ConfigIndexKey, String> result = new HashMap<ConfigIndexKey, String>();
-
-        final PsiManager psiManager = PsiManager.getInstance(inputData.getProject());
-        final PsiDirectory directory = psiManager.findDirectory(inputData.getFile().getParent());
-        if (null != directory) {
-          final PsiPackage directoryPackage = JavaDirectoryService.getInstance().getPackage(directory);
-          if (null != directoryPackage) {
-            final LombokConfigProperty[] configProperties = LombokConfigUtil.getLombokConfigProperties((LombokConfigFile) inputData.getPsiFile());
-            for (LombokConfigProperty configProperty : configProperties) {
-              result.put(new ConfigIndexKey(directoryPackage.getQualifiedName(), configProperty.getKey()), configProperty.getValue());
-            }
-          }
+      public Map<String, Map<String, ConfigValue>> map(@NotNull FileContent inputData) {
+        final VirtualFile directory = inputData.getFile().getParent();
+        if (null == directory) {
+          return Collections.emptyMap();
         }
 
-        return result;
+        final Map<String, ConfigValue> configValues = readConfigValues(inputData.getContentAsText());
+        return Collections.singletonMap(directory.getPath(), configValues);
       }
     };
   }
 
+  @NotNull
+  private static Map<String, ConfigValue> readConfigValues(@NotNull CharSequence configText) {
+    final Map<String, ConfigValue> result = new HashMap<String, ConfigValue>();
+
+    final Lexer lexer = new LombokConfigLexerAdapter();
+    lexer.start(configText);
+
+    boolean clearLine = false;
+    String key = null;
+    String sign = null;
+
+    IElementType tokenType;
+    while (null != (tokenType = lexer.getTokenType())) {
+      final String tokenText = configText.subSequence(lexer.getTokenStart(), lexer.getTokenEnd()).toString();
+      if (LombokConfigTypes.CLEAR == tokenType) {
+        clearLine = true;
+      } else if (LombokConfigTypes.KEY == tokenType) {
+        if (clearLine) {
+          getConfigValue(result, tokenText).clear();
+          clearLine = false;
+        } else {
+          key = tokenText;
+          sign = null;
+        }
+      } else if (LombokConfigTypes.SIGN == tokenType) {
+        sign = tokenText.trim();
+      } else if (LombokConfigTypes.VALUE == tokenType) {
+        if (null != key) {
+          final ConfigValue configValue = getConfigValue(result, key);
+          if ("+".equals(sign)) {
+            configValue.add(tokenText);
+          } else if ("-".equals(sign)) {
+            configValue.remove(tokenText);
+          } else {
+            configValue.set(tokenText);
+          }
+        }
+        key = null;
+        sign = null;
+      } else if (LombokConfigTypes.COMMENT == tokenType) {
+        clearLine = false;
+        key = null;
+        sign = null;
+      }
+      lexer.advance();
+    }
+    return result;
+  }
+
+  @NotNull
+  private static ConfigValue getConfigValue(@NotNull Map<String, ConfigValue> configValues, @NotNull String key) {
+    ConfigValue configValue = configValues.get(key);
+    if (null == configValue) {
+      configValue = new ConfigValue();
+      configValues.put(key, configValue);
+    }
+    return configValue;
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return new EnumeratorStringDescriptor();
+  }
+
   @NotNull
   @Override
-  public KeyDescriptor<ConfigIndexKey> getKeyDescriptor() {
-    return new KeyDescriptor<ConfigIndexKey>() {
+  public DataExternalizer<Map<String, ConfigValue>> getValueExternalizer() {
+    return new DataExternalizer<Map<String, ConfigValue>>() {
       @Override
-      public int getHashCode(ConfigIndexKey configKey) {
-        return configKey.hashCode();
+      public void save(@NotNull DataOutput out, Map<String, ConfigValue> configValues) throws IOException {
+        out.writeInt(configValues.size());
+        for (Map.Entry<String, ConfigValue> entry : configValues.entrySet()) {
+          final ConfigValue configValue = entry.getValue();
+          out.writeUTF(entry.getKey());
+          out.writeBoolean(null != configValue.getValue());
+          out.writeUTF(StringUtil.notNullize(configValue.getValue()));
+          out.writeBoolean(configValue.isClearParent());
+          writeValues(out, configValue.getAddedValues());
+          writeValues(out, configValue.getRemovedValues());
+        }
       }
 
       @Override
-      public boolean isEqual(ConfigIndexKey val1, ConfigIndexKey val2) {
-        return val1.equals(val2);
+      public Map<String, ConfigValue> read(@NotNull DataInput in) throws IOException {
+        final int size = in.readInt();
+        final Map<String, ConfigValue> result = new HashMap<String, ConfigValue>(size);
+        for (int i = 0; i < size; i++) {
+          final String key = in.readUTF();
+          final boolean hasValue = in.readBoolean();
+          final String value = in.readUTF();
+          final boolean clearParent = in.readBoolean();
+          final Collection<String> addedValues = readValues(in);
+          final Collection<String> removedValues = readValues(in);
+          result.put(key, new ConfigValue(hasValue ? value : null, clearParent, addedValues, removedValues));
+        }
+        return result;
       }
 
-      @Override
-      public void save(@NotNull DataOutput out, ConfigIndexKey value) throws IOException {
-        out.writeUTF(StringUtil.notNullize(value.getPackageName()));
-        out.writeUTF(StringUtil.notNullize(value.getConfigKey()));
+      private void writeValues(@NotNull DataOutput out, @NotNull Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+          out.writeUTF(value);
+        }
       }
 
-      @Override
-      public ConfigIndexKey read(@NotNull DataInput in) throws IOException {
-        return new ConfigIndexKey(in.readUTF(), in.readUTF());
+      @NotNull
+      private Collection<String> readValues(@NotNull DataInput in) throws IOException {
+        final int size = in.readInt();
+        final Collection<String> result = new LinkedHashSet<String>(size);
+        for (int i = 0; i < size; i++) {
+          result.add(in.readUTF());
+        }
+        return result;
       }
     };
   }
 
-  @NotNull
-  @Override
-  public DataExternalizer<String> getValueExternalizer() {
-    return new EnumeratorStringDescriptor();
-  }
-
   @NotNull
   @Override
   public FileBasedIndex.InputFilter getInputFilter() {
@@ -108,6 +191,6 @@ public class LombokConfigIndex extends FileBasedIndexExtension<ConfigIndexKey, S
 
   @Override
   public int getVersion() {
-    return 1;
+    return 2;
   }
 }
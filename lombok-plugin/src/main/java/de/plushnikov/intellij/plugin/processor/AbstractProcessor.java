@@ -12,6 +12,8 @@ import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigDiscovery;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigKeys;
 import de.plushnikov.intellij.plugin.processor.field.AccessorsInfo;
+import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
+import de.plushnikov.intellij.plugin.settings.ProjectSettings;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
@@ -81,7 +83,7 @@ public abstract class AbstractProcessor implements Processor {
 
   @Override
   public boolean isEnabled(@NotNull Project project) {
-    return true;//TODO make it configurable
+    return ProjectSettings.loadAndGetProcessorEnabledInProject(project, supportedAnnotation);
   }
 
   @Override
@@ -140,4 +142,20 @@ public abstract class AbstractProcessor implements Processor {
       modifierList.addAnnotation(annotation);
     }
   }
+
+  /**
+   * Adds onX annotations to the generated method, its (maybe shared) modifier list is copied only if there are some
+   */
+  protected static void addOnXAnnotations(@Nullable PsiAnnotation processedAnnotation,
+                                          @NotNull LombokLightMethodBuilder lightMethodBuilder,
+                                          @NotNull String onXParameterName) {
+    if (processedAnnotation == null) {
+      return;
+    }
+
+    Collection<String> annotationsToAdd = LombokProcessorUtil.getOnX(processedAnnotation, onXParameterName);
+    for (String annotation : annotationsToAdd) {
+      lightMethodBuilder.withAnnotation(annotation);
+    }
+  }
 }
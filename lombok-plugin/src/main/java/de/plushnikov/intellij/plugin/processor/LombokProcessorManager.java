@@ -0,0 +1,124 @@
+package de.plushnikov.intellij.plugin.processor;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Dispatches processing of a class only to processors, whose annotations are present on the class, its members
+ * or (for predefined inner builder classes) on the containing class and its methods.
+ */
+public class LombokProcessorManager {
+  private static final LombokProcessorManager ourInstance = new LombokProcessorManager();
+
+  private final ConcurrentMap<Class, List<ProcessorEntry>> processorsByType = new ConcurrentHashMap<Class, List<ProcessorEntry>>();
+
+  public static LombokProcessorManager getInstance() {
+    return ourInstance;
+  }
+
+  private LombokProcessorManager() {
+  }
+
+  /**
+   * Collects all processors, which can produce elements of given type for the psiClass.
+   * Annotations of psiClass and its members are scanned only once, by simple name.
+   *
+   * @param psiClass class to process
+   * @param type     kind of elements to produce
+   * @return processors in order of their registration
+   */
+  @NotNull
+  public Collection<Processor> getApplicableProcessors(@NotNull PsiClass psiClass, @NotNull Class<? extends PsiElement> type) {
+    final List<ProcessorEntry> processorEntries = getProcessorEntries(type);
+    if (processorEntries.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final Collection<String> annotationNames = collectAnnotationSimpleNames(psiClass);
+    if (annotationNames.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final Collection<Processor> result = new ArrayList<Processor>(annotationNames.size());
+    for (ProcessorEntry processorEntry : processorEntries) {
+      if (annotationNames.contains(processorEntry.annotationSimpleName)) {
+        result.add(processorEntry.processor);
+      }
+    }
+    return result;
+  }
+
+  @NotNull
+  private List<ProcessorEntry> getProcessorEntries(@NotNull Class<? extends PsiElement> type) {
+    List<ProcessorEntry> result = processorsByType.get(type);
+    if (null == result) {
+      result = new ArrayList<ProcessorEntry>();
+      for (Processor processor : LombokProcessorExtensionPoint.EP_NAME.getExtensions()) {
+        if (processor.canProduce(type)) {
+          result.add(new ProcessorEntry(processor));
+        }
+      }
+      processorsByType.putIfAbsent(type, result);
+    }
+    return result;
+  }
+
+  @NotNull
+  private Collection<String> collectAnnotationSimpleNames(@NotNull PsiClass psiClass) {
+    final Collection<String> result = new HashSet<String>();
+    addAnnotationSimpleNames(psiClass, result);
+    for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
+      addAnnotationSimpleNames(psiField, result);
+    }
+    for (PsiMethod psiMethod : PsiClassUtil.collectClassMethodsIntern(psiClass)) {
+      addAnnotationSimpleNames(psiMethod, result);
+    }
+
+    // predefined inner builder classes are processed because of annotations of the containing class
+    final PsiElement parentElement = psiClass.getParent();
+    if (parentElement instanceof PsiClass) {
+      final PsiClass parentClass = (PsiClass) parentElement;
+      addAnnotationSimpleNames(parentClass, result);
+      for (PsiMethod psiMethod : PsiClassUtil.collectClassMethodsIntern(parentClass)) {
+        addAnnotationSimpleNames(psiMethod, result);
+      }
+    }
+    return result;
+  }
+
+  private void addAnnotationSimpleNames(@NotNull PsiModifierListOwner modifierListOwner, @NotNull Collection<String> target) {
+    final PsiModifierList modifierList = modifierListOwner.getModifierList();
+    if (null != modifierList) {
+      for (PsiAnnotation psiAnnotation : modifierList.getAnnotations()) {
+        target.add(PsiAnnotationUtil.getSimpleNameOf(psiAnnotation));
+      }
+    }
+  }
+
+  private static class ProcessorEntry {
+    private final Processor processor;
+    private final String annotationSimpleName;
+
+    private ProcessorEntry(@NotNull Processor processor) {
+      this.processor = processor;
+      this.annotationSimpleName = processor.getSupportedAnnotationClass().getSimpleName();
+    }
+  }
+}
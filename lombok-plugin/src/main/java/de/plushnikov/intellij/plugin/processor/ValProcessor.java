@@ -3,6 +3,12 @@ package de.plushnikov.intellij.plugin.processor;
 import com.intellij.codeInsight.daemon.impl.analysis.JavaGenericsUtil;
 import com.intellij.codeInspection.ProblemHighlightType;
 import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.RecursionGuard;
+import com.intellij.openapi.util.RecursionManager;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiArrayInitializerExpression;
 import com.intellij.psi.PsiClass;
@@ -11,8 +17,11 @@ import com.intellij.psi.PsiDiamondType;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiExpression;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiForStatement;
 import com.intellij.psi.PsiForeachStatement;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.PsiJavaCodeReferenceElement;
 import com.intellij.psi.PsiLambdaExpression;
 import com.intellij.psi.PsiLocalVariable;
@@ -22,6 +31,10 @@ import com.intellij.psi.PsiReferenceParameterList;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeElement;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.TypeConversionUtil;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import lombok.val;
@@ -30,20 +43,15 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
 
 public class ValProcessor extends AbstractProcessor {
 
   private static final String LOMBOK_VAL_FQN = "lombok.val";
   private static final String LOMBOK_VAL_SHORT_NAME = "val";
+  private static final String LOMBOK_PACKAGE = "lombok";
 
-  private final static ThreadLocal<Set<PsiExpression>> recursionBreaker = new ThreadLocal<Set<PsiExpression>>() {
-    @Override
-    protected Set<PsiExpression> initialValue() {
-      return new HashSet<PsiExpression>();
-    }
-  };
+  private static final Key<CachedValue<PsiType>> INFERRED_TYPE_KEY = Key.create("lombok.val.inferred.type");
+  private static final RecursionGuard recursionGuard = RecursionManager.createGuard("lombok.val");
 
   public ValProcessor() {
     super(val.class, PsiElement.class);
@@ -86,9 +94,31 @@ public class ValProcessor extends AbstractProcessor {
     }
   }
 
+  /**
+   * Checks without resolving anything, if 'val' can be used in the file at all:
+   * it has to be imported (single class or on demand) or referenced by its qualified name
+   */
+  public boolean isValPossibleInFile(@Nullable PsiFile psiFile) {
+    if (!(psiFile instanceof PsiJavaFile)) {
+      return false;
+    }
+    final PsiJavaFile javaFile = (PsiJavaFile) psiFile;
+    // classes of the same package (or of the default package for a plain 'val' class) need no import
+    final String packageName = javaFile.getPackageName();
+    if (LOMBOK_PACKAGE.equals(packageName) || StringUtil.isEmpty(packageName)) {
+      return true;
+    }
+    final PsiImportList importList = javaFile.getImportList();
+    if (null != importList && (null != importList.findSingleClassImportStatement(LOMBOK_VAL_FQN) || null != importList.findOnDemandImportStatement(LOMBOK_PACKAGE))) {
+      return true;
+    }
+    return StringUtil.contains(javaFile.getViewProvider().getContents(), LOMBOK_VAL_FQN);
+  }
+
   protected boolean isVal(@NotNull PsiTypeElement psiTypeElement) {
     final PsiJavaCodeReferenceElement referenceElement = psiTypeElement.getInnermostComponentReferenceElement();
-    if (null != referenceElement) {
+    // resolve only real candidates, every other type element is filtered by its reference name
+    if (null != referenceElement && LOMBOK_VAL_SHORT_NAME.equals(referenceElement.getReferenceName())) {
       final PsiElement psiElement = referenceElement.resolve();
       if (psiElement instanceof PsiClass) {
         final String qualifiedName = ((PsiClass) psiElement).getQualifiedName();
@@ -98,8 +128,37 @@ public class ValProcessor extends AbstractProcessor {
     return false;
   }
 
+  /**
+   * Returns the type of a 'val' local variable or foreach parameter, cached until the next PSI modification
+   */
+  @Nullable
+  public PsiType inferType(@NotNull final PsiTypeElement typeElement) {
+    final PsiElement parent = typeElement.getParent();
+    if (!(parent instanceof PsiLocalVariable || parent instanceof PsiParameter)) {
+      return null;
+    }
+    // only real 'val' candidates get a cached value, all other declarations are filtered by the reference name
+    final PsiJavaCodeReferenceElement referenceElement = typeElement.getInnermostComponentReferenceElement();
+    if (null == referenceElement || !LOMBOK_VAL_SHORT_NAME.equals(referenceElement.getReferenceName())) {
+      return null;
+    }
+
+    return CachedValuesManager.getManager(typeElement.getProject()).getCachedValue(typeElement, INFERRED_TYPE_KEY,
+        new CachedValueProvider<PsiType>() {
+          @Nullable
+          @Override
+          public Result<PsiType> compute() {
+            final RecursionGuard.StackStamp stackStamp = recursionGuard.markStack();
+            final PsiType psiType = inferTypeIntern(typeElement);
+            // types computed while some recursion was prevented are incomplete and must not be cached
+            final Object dependency = stackStamp.mayCacheNow() ? PsiModificationTracker.MODIFICATION_COUNT : ModificationTracker.EVER_CHANGED;
+            return Result.create(psiType, dependency);
+          }
+        }, false);
+  }
+
   @Nullable
-  public PsiType inferType(PsiTypeElement typeElement) {
+  private PsiType inferTypeIntern(@NotNull PsiTypeElement typeElement) {
     PsiType psiType = null;
 
     final PsiElement parent = typeElement.getParent();
@@ -118,26 +177,24 @@ public class ValProcessor extends AbstractProcessor {
     return psiType;
   }
 
-  protected PsiType processLocalVariableInitializer(PsiExpression initializer) {
+  protected PsiType processLocalVariableInitializer(final PsiExpression initializer) {
     PsiType result = null;
     if (null != initializer && !(initializer instanceof PsiArrayInitializerExpression)) {
-      if (!recursionBreaker.get().contains(initializer)) {
-        recursionBreaker.get().add(initializer);
-        try {
-          result = initializer.getType();
-        } finally {
-          recursionBreaker.get().remove(initializer);
+      result = recursionGuard.doPreventingRecursion(initializer, true, new Computable<PsiType>() {
+        @Override
+        public PsiType compute() {
+          return initializer.getType();
         }
-
-        if (initializer instanceof PsiNewExpression) {
-          final PsiJavaCodeReferenceElement reference = ((PsiNewExpression) initializer).getClassOrAnonymousClassReference();
-          if (reference != null) {
-            final PsiReferenceParameterList parameterList = reference.getParameterList();
-            if (parameterList != null) {
-              final PsiTypeElement[] elements = parameterList.getTypeParameterElements();
-              if (elements.length == 1 && elements[0].getType() instanceof PsiDiamondType) {
-                result = TypeConversionUtil.erasure(result);
-              }
+      });
+
+      if (null != result && initializer instanceof PsiNewExpression) {
+        final PsiJavaCodeReferenceElement reference = ((PsiNewExpression) initializer).getClassOrAnonymousClassReference();
+        if (reference != null) {
+          final PsiReferenceParameterList parameterList = reference.getParameterList();
+          if (parameterList != null) {
+            final PsiTypeElement[] elements = parameterList.getTypeParameterElements();
+            if (elements.length == 1 && elements[0].getType() instanceof PsiDiamondType) {
+              result = TypeConversionUtil.erasure(result);
             }
           }
         }
@@ -152,7 +209,12 @@ public class ValProcessor extends AbstractProcessor {
       final PsiForeachStatement foreachStatement = (PsiForeachStatement) parentDeclarationScope;
       final PsiExpression iteratedValue = foreachStatement.getIteratedValue();
       if (iteratedValue != null) {
-        result = JavaGenericsUtil.getCollectionItemType(iteratedValue);
+        result = recursionGuard.doPreventingRecursion(iteratedValue, true, new Computable<PsiType>() {
+          @Override
+          public PsiType compute() {
+            return JavaGenericsUtil.getCollectionItemType(iteratedValue);
+          }
+        });
       }
     }
     return result;
@@ -17,7 +17,6 @@ import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -149,13 +148,13 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
     final Collection<String> excludeProperty = makeSet(PsiAnnotationUtil.getAnnotationValues(psiAnnotation, "exclude", String.class));
     final Collection<String> ofProperty = makeSet(PsiAnnotationUtil.getAnnotationValues(psiAnnotation, "of", String.class));
 
-    final Collection<PsiField> psiFields = PsiClassUtil.collectClassFieldsIntern(psiClass);
+    final List<ClassFieldsModel.FieldInfo> fieldInfos = ClassFieldsModel.getInstance(psiClass).getFields();
 
-    final Collection<PsiField> result = new ArrayList<PsiField>(psiFields.size());
+    final Collection<PsiField> result = new ArrayList<PsiField>(fieldInfos.size());
 
-    for (PsiField classField : psiFields) {
-      final String fieldName = classField.getName();
-      if (classField.hasModifierProperty(PsiModifier.STATIC) || (filterTransient && classField.hasModifierProperty(PsiModifier.TRANSIENT))) {
+    for (ClassFieldsModel.FieldInfo fieldInfo : fieldInfos) {
+      final String fieldName = fieldInfo.getName();
+      if (fieldInfo.isStatic() || (filterTransient && fieldInfo.isTransient())) {
         continue;
       }
       if (excludeProperty.contains(fieldName)) {
@@ -165,11 +164,11 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
         continue;
       }
 
-      if (fieldName.startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER) && !ofProperty.contains(fieldName)) {
+      if (fieldInfo.isLombokIntern() && !ofProperty.contains(fieldName)) {
         continue;
       }
 
-      result.add(classField);
+      result.add(fieldInfo.getField());
     }
     return result;
   }
@@ -179,9 +178,10 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
     if (doNotUseGetters) {
       return fieldName;
     } else {
-      final String getterName = getGetterName(classField);
+      final ClassFieldsModel.FieldInfo fieldInfo = ClassFieldsModel.getInstance(psiClass).getFieldInfo(classField);
+      final String getterName = null != fieldInfo ? fieldInfo.getGetterName() : getGetterName(classField);
 
-      boolean hasGetter = PsiMethodUtil.hasMethodByName(PsiClassUtil.collectClassMethodsIntern(psiClass), getterName);
+      boolean hasGetter = ClassMethodsModel.getInstance(psiClass).hasMethod(getterName);
 
       return hasGetter ? getterName + "()" : fieldName;
     }
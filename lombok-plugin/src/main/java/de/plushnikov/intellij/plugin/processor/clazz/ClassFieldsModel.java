@@ -0,0 +1,188 @@
+package de.plushnikov.intellij.plugin.processor.clazz;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import de.plushnikov.intellij.plugin.lombokconfig.ConfigChangeTracker;
+import de.plushnikov.intellij.plugin.processor.field.AccessorsInfo;
+import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import lombok.Value;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Analysis of all (not generated) fields of one class, shared by all class processors (@Data, @Value, @Getter, @Setter,
+ * @EqualsAndHashCode, @ToString and constructors). Computed once per modification of the containing file.
+ */
+public class ClassFieldsModel {
+  private static final Key<CachedValue<ClassFieldsModel>> CLASS_FIELDS_MODEL_KEY = Key.create("lombok.class.fields.model");
+
+  private final List<FieldInfo> fields;
+  private final Map<PsiField, FieldInfo> fieldInfoMap;
+
+  @NotNull
+  public static ClassFieldsModel getInstance(@NotNull final PsiClass psiClass) {
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass, CLASS_FIELDS_MODEL_KEY,
+        new CachedValueProvider<ClassFieldsModel>() {
+          @Nullable
+          @Override
+          public Result<ClassFieldsModel> compute() {
+            final Object fileDependency = null == psiClass.getContainingFile() ? PsiModificationTracker.MODIFICATION_COUNT : psiClass.getContainingFile();
+            return Result.create(new ClassFieldsModel(psiClass), fileDependency, ConfigChangeTracker.getInstance());
+          }
+        }, false);
+  }
+
+  @SuppressWarnings("deprecation")
+  private ClassFieldsModel(@NotNull PsiClass psiClass) {
+    final boolean classAnnotatedWithValue = PsiAnnotationUtil.isAnnotatedWith(psiClass, Value.class, lombok.experimental.Value.class);
+
+    final Collection<PsiField> psiFields = PsiClassUtil.collectClassFieldsIntern(psiClass);
+    final List<FieldInfo> fieldInfos = new ArrayList<FieldInfo>(psiFields.size());
+    fieldInfoMap = new HashMap<PsiField, FieldInfo>(psiFields.size());
+    for (PsiField psiField : psiFields) {
+      final FieldInfo fieldInfo = new FieldInfo(psiField, classAnnotatedWithValue);
+      fieldInfos.add(fieldInfo);
+      fieldInfoMap.put(psiField, fieldInfo);
+    }
+    fields = Collections.unmodifiableList(fieldInfos);
+  }
+
+  /**
+   * @return all fields of the class in declaration order
+   */
+  @NotNull
+  public List<FieldInfo> getFields() {
+    return fields;
+  }
+
+  @Nullable
+  public FieldInfo getFieldInfo(@NotNull PsiField psiField) {
+    return fieldInfoMap.get(psiField);
+  }
+
+  public static class FieldInfo {
+    private final PsiField field;
+    private final String name;
+    private final boolean isStatic;
+    private final boolean isFinal;
+    private final boolean isFinalOrValue;
+    private final boolean isTransient;
+    private final boolean isInitialized;
+    private final boolean isNonNull;
+    private final boolean isLombokIntern;
+    private final boolean isBoolean;
+    private final AccessorsInfo accessorsInfo;
+    private final String getterName;
+    private final Collection<String> allGetterNames;
+    private final Collection<String> allSetterNames;
+
+    private FieldInfo(@NotNull PsiField psiField, boolean classAnnotatedWithValue) {
+      field = psiField;
+      name = psiField.getName();
+
+      final PsiModifierList modifierList = psiField.getModifierList();
+      isStatic = null != modifierList && modifierList.hasModifierProperty(PsiModifier.STATIC);
+      isFinal = null != modifierList && modifierList.hasModifierProperty(PsiModifier.FINAL);
+      isFinalOrValue = isFinal || (null != modifierList && classAnnotatedWithValue && PsiAnnotationUtil.isNotAnnotatedWith(psiField, NonFinal.class));
+      isTransient = null != modifierList && modifierList.hasModifierProperty(PsiModifier.TRANSIENT);
+      isInitialized = null != psiField.getInitializer();
+      isNonNull = PsiAnnotationUtil.isAnnotatedWith(psiField, LombokUtils.NON_NULL_PATTERN);
+      isLombokIntern = name.startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
+      isBoolean = PsiType.BOOLEAN.equals(psiField.getType());
+
+      accessorsInfo = AccessorsInfo.build(psiField);
+      getterName = LombokUtils.toGetterName(accessorsInfo, name, isBoolean);
+      allGetterNames = LombokUtils.toAllGetterNames(accessorsInfo, name, isBoolean);
+      allSetterNames = LombokUtils.toAllSetterNames(accessorsInfo, name, isBoolean);
+    }
+
+    @NotNull
+    public PsiField getField() {
+      return field;
+    }
+
+    @NotNull
+    public String getName() {
+      return name;
+    }
+
+    public boolean isStatic() {
+      return isStatic;
+    }
+
+    /**
+     * @return true if the field has the final modifier
+     */
+    public boolean isFinal() {
+      return isFinal;
+    }
+
+    /**
+     * @return true if the field has the final modifier or is made final by @Value of the class
+     */
+    public boolean isFinalOrValue() {
+      return isFinalOrValue;
+    }
+
+    public boolean isTransient() {
+      return isTransient;
+    }
+
+    public boolean isInitialized() {
+      return isInitialized;
+    }
+
+    public boolean isNonNull() {
+      return isNonNull;
+    }
+
+    /**
+     * @return true if the field name starts with '$' and is excluded from generation by default
+     */
+    public boolean isLombokIntern() {
+      return isLombokIntern;
+    }
+
+    public boolean isBoolean() {
+      return isBoolean;
+    }
+
+    @NotNull
+    public AccessorsInfo getAccessorsInfo() {
+      return accessorsInfo;
+    }
+
+    @NotNull
+    public String getGetterName() {
+      return getterName;
+    }
+
+    @NotNull
+    public Collection<String> getAllGetterNames() {
+      return allGetterNames;
+    }
+
+    @NotNull
+    public Collection<String> getAllSetterNames() {
+      return allSetterNames;
+    }
+  }
+}
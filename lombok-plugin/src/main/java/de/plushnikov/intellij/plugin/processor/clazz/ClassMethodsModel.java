@@ -0,0 +1,102 @@
+package de.plushnikov.intellij.plugin.processor.clazz;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Lookup table of all (not generated) methods of one class by name, by name and parameter count and
+ * case insensitive by name and parameter count (without vararg parameter). Used by all processors to check for already existing methods.
+ * Computed once per modification of the containing file.
+ */
+public class ClassMethodsModel {
+  private static final Key<CachedValue<ClassMethodsModel>> CLASS_METHODS_MODEL_KEY = Key.create("lombok.class.methods.model");
+
+  private final Set<String> methodNames;
+  private final Set<String> nameAndArityKeys;
+  private final Set<String> similarNameAndArityKeys;
+
+  @NotNull
+  public static ClassMethodsModel getInstance(@NotNull final PsiClass psiClass) {
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass, CLASS_METHODS_MODEL_KEY,
+        new CachedValueProvider<ClassMethodsModel>() {
+          @Nullable
+          @Override
+          public Result<ClassMethodsModel> compute() {
+            final Object fileDependency = null == psiClass.getContainingFile() ? PsiModificationTracker.MODIFICATION_COUNT : psiClass.getContainingFile();
+            return Result.create(new ClassMethodsModel(psiClass), fileDependency);
+          }
+        }, false);
+  }
+
+  private ClassMethodsModel(@NotNull PsiClass psiClass) {
+    final Collection<PsiMethod> psiMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
+    methodNames = new HashSet<String>(psiMethods.size());
+    nameAndArityKeys = new HashSet<String>(psiMethods.size());
+    similarNameAndArityKeys = new HashSet<String>(psiMethods.size());
+
+    for (PsiMethod psiMethod : psiMethods) {
+      final String methodName = psiMethod.getName();
+      methodNames.add(methodName);
+
+      final int parametersCount = psiMethod.getParameterList().getParametersCount();
+      nameAndArityKeys.add(createKey(methodName, parametersCount));
+      similarNameAndArityKeys.add(createSimilarKey(methodName, psiMethod.isVarArgs() ? parametersCount - 1 : parametersCount));
+    }
+  }
+
+  @NotNull
+  private static String createKey(@NotNull String methodName, int parametersCount) {
+    return methodName + '/' + parametersCount;
+  }
+
+  @NotNull
+  private static String createSimilarKey(@NotNull String methodName, int parametersCount) {
+    return createKey(methodName.toLowerCase(Locale.ENGLISH), parametersCount);
+  }
+
+  /**
+   * @return true if the class has a method with exactly this name
+   */
+  public boolean hasMethod(@NotNull String methodName) {
+    return methodNames.contains(methodName);
+  }
+
+  /**
+   * @return true if the class has a method with one of the names
+   */
+  public boolean hasAnyMethod(@NotNull String... names) {
+    for (String methodName : names) {
+      if (methodNames.contains(methodName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return true if the class has a method with exactly this name and count of parameters
+   */
+  public boolean hasMethod(@NotNull String methodName, int parametersCount) {
+    return nameAndArityKeys.contains(createKey(methodName, parametersCount));
+  }
+
+  /**
+   * @return true if the class has a method with this name ignoring case and this count of parameters (without vararg parameter)
+   */
+  public boolean hasSimilarMethod(@NotNull String methodName, int parametersCount) {
+    return similarNameAndArityKeys.contains(createSimilarKey(methodName, parametersCount));
+  }
+}
@@ -29,6 +29,12 @@ import java.util.List;
  * @author Plushnikov Michail
  */
 public class DataProcessor extends AbstractClassProcessor {
+  // delegates are stateless, all field related information is shared through ClassFieldsModel
+  private final GetterProcessor getterProcessor = new GetterProcessor();
+  private final SetterProcessor setterProcessor = new SetterProcessor();
+  private final EqualsAndHashCodeProcessor equalsAndHashCodeProcessor = new EqualsAndHashCodeProcessor();
+  private final ToStringProcessor toStringProcessor = new ToStringProcessor();
+  private final RequiredArgsConstructorProcessor requiredArgsConstructorProcessor = new RequiredArgsConstructorProcessor();
 
   public DataProcessor() {
     super(Data.class, PsiMethod.class);
@@ -63,16 +69,16 @@ public class DataProcessor extends AbstractClassProcessor {
 
   protected void generatePsiElements(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, Getter.class)) {
-      target.addAll(new GetterProcessor().createFieldGetters(psiClass, PsiModifier.PUBLIC));
+      target.addAll(getterProcessor.createFieldGetters(psiClass, PsiModifier.PUBLIC));
     }
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, Setter.class)) {
-      target.addAll(new SetterProcessor().createFieldSetters(psiClass, PsiModifier.PUBLIC));
+      target.addAll(setterProcessor.createFieldSetters(psiClass, PsiModifier.PUBLIC));
     }
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, EqualsAndHashCode.class)) {
-      target.addAll(new EqualsAndHashCodeProcessor().createEqualAndHashCode(psiClass, psiAnnotation));
+      target.addAll(equalsAndHashCodeProcessor.createEqualAndHashCode(psiClass, psiAnnotation));
     }
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, ToString.class)) {
-      target.addAll(new ToStringProcessor().createToStringMethod(psiClass, psiAnnotation));
+      target.addAll(toStringProcessor.createToStringMethod(psiClass, psiAnnotation));
     }
     // create required constructor only if there are no other constructor annotations
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, NoArgsConstructor.class, RequiredArgsConstructor.class, AllArgsConstructor.class)) {
@@ -81,8 +87,6 @@ public class DataProcessor extends AbstractClassProcessor {
 
       // and only if there are no any other constructors!
       if (definedConstructors.isEmpty()) {
-        final RequiredArgsConstructorProcessor requiredArgsConstructorProcessor = new RequiredArgsConstructorProcessor();
-
         final String staticName = PsiAnnotationUtil.getStringAnnotationValue(psiAnnotation, "staticConstructor");
         final Collection<PsiField> requiredFields = requiredArgsConstructorProcessor.getRequiredFields(psiClass);
 
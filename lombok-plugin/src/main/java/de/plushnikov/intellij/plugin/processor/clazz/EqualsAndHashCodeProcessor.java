@@ -1,9 +1,11 @@
 package de.plushnikov.intellij.plugin.processor.clazz;
 
 import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.util.Computable;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiArrayType;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCodeBlock;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiManager;
@@ -89,8 +91,7 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
   }
 
   protected boolean validateExistingMethods(@NotNull PsiClass psiClass, @NotNull ProblemBuilder builder) {
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
-    if (PsiMethodUtil.hasMethodByName(classMethods, EQUALS_METHOD_NAME, HASH_CODE_METHOD_NAME)) {
+    if (ClassMethodsModel.getInstance(psiClass).hasAnyMethod(EQUALS_METHOD_NAME, HASH_CODE_METHOD_NAME)) {
       builder.addWarning("Not generating equals and hashCode: A method with one of those names already exists. (Either both or none of these methods will be generated).");
       return false;
     }
@@ -102,8 +103,8 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
   }
 
   protected Collection<PsiMethod> createEqualAndHashCode(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation) {
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
-    if (PsiMethodUtil.hasMethodByName(classMethods, EQUALS_METHOD_NAME, HASH_CODE_METHOD_NAME)) {
+    final ClassMethodsModel classMethods = ClassMethodsModel.getInstance(psiClass);
+    if (classMethods.hasAnyMethod(EQUALS_METHOD_NAME, HASH_CODE_METHOD_NAME)) {
       return Collections.emptyList();
     }
 
@@ -113,7 +114,7 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
     result.add(createEqualsMethod(psiClass, psiAnnotation, shouldGenerateCanEqual));
     result.add(createHashCodeMethod(psiClass, psiAnnotation, shouldGenerateCanEqual));
 
-    if (shouldGenerateCanEqual && !PsiMethodUtil.hasMethodByName(classMethods, CAN_EQUAL_METHOD_NAME)) {
+    if (shouldGenerateCanEqual && !classMethods.hasMethod(CAN_EQUAL_METHOD_NAME)) {
       result.add(createCanEqualMethod(psiClass, psiAnnotation));
     }
     return result;
@@ -132,17 +133,23 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
   }
 
   @NotNull
-  private PsiMethod createEqualsMethod(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, boolean hasCanEqualMethod) {
+  private PsiMethod createEqualsMethod(@NotNull final PsiClass psiClass, @NotNull final PsiAnnotation psiAnnotation, final boolean hasCanEqualMethod) {
     final PsiManager psiManager = psiClass.getManager();
 
-    final String blockText = createEqualsBlockString(psiClass, psiAnnotation, hasCanEqualMethod);
-
     LombokLightMethodBuilder methodBuilder = new LombokLightMethodBuilder(psiManager, EQUALS_METHOD_NAME)
         .withModifier(PsiModifier.PUBLIC)
         .withMethodReturnType(PsiType.BOOLEAN)
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation)
-        .withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+        .withBody(new Computable<PsiCodeBlock>() {
+          @Override
+          public PsiCodeBlock compute() {
+            if (!psiClass.isValid() || !psiAnnotation.isValid()) {
+              return null;
+            }
+            return PsiMethodUtil.createCodeBlockFromText(createEqualsBlockString(psiClass, psiAnnotation, hasCanEqualMethod), psiClass);
+          }
+        });
 
     final LombokLightParameter methodParameter = new LombokLightParameter("o", PsiType.getJavaLangObject(
         psiManager, GlobalSearchScope.allScope(psiClass.getProject())), methodBuilder, JavaLanguage.INSTANCE);
@@ -152,17 +159,23 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
   }
 
   @NotNull
-  private PsiMethod createHashCodeMethod(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, boolean hasCanEqualMethod) {
+  private PsiMethod createHashCodeMethod(@NotNull final PsiClass psiClass, @NotNull final PsiAnnotation psiAnnotation, boolean hasCanEqualMethod) {
     final PsiManager psiManager = psiClass.getManager();
 
-    final String blockText = createHashcodeBlockString(psiClass, psiAnnotation);
-
     return new LombokLightMethodBuilder(psiManager, HASH_CODE_METHOD_NAME)
         .withModifier(PsiModifier.PUBLIC)
         .withMethodReturnType(PsiType.INT)
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation)
-        .withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+        .withBody(new Computable<PsiCodeBlock>() {
+          @Override
+          public PsiCodeBlock compute() {
+            if (!psiClass.isValid() || !psiAnnotation.isValid()) {
+              return null;
+            }
+            return PsiMethodUtil.createCodeBlockFromText(createHashcodeBlockString(psiClass, psiAnnotation), psiClass);
+          }
+        });
   }
 
   @NotNull
@@ -176,7 +189,7 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
         .withMethodReturnType(PsiType.BOOLEAN)
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation)
-        .withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+        .withBody(PsiMethodUtil.createLazyCodeBlockFromText(blockText, psiClass));
 
     final LombokLightParameter methodParameter = new LombokLightParameter("other", PsiType.getJavaLangObject(
         psiManager, GlobalSearchScope.allScope(psiClass.getProject())), methodBuilder, JavaLanguage.INSTANCE);
@@ -5,15 +5,10 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiModifierList;
-import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.field.SetterFieldProcessor;
-import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
-import de.plushnikov.intellij.plugin.util.PsiClassUtil;
-import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 
@@ -72,24 +67,24 @@ public class SetterProcessor extends AbstractClassProcessor {
 
   public Collection<PsiMethod> createFieldSetters(@NotNull PsiClass psiClass, @NotNull String methodModifier) {
     Collection<PsiMethod> result = new ArrayList<PsiMethod>();
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
+    final ClassMethodsModel classMethods = ClassMethodsModel.getInstance(psiClass);
 
-    for (PsiField psiField : psiClass.getFields()) {
+    for (ClassFieldsModel.FieldInfo fieldInfo : ClassFieldsModel.getInstance(psiClass).getFields()) {
+      final PsiField psiField = fieldInfo.getField();
       boolean createSetter = true;
       PsiModifierList modifierList = psiField.getModifierList();
       if (null != modifierList) {
         //Skip final fields.
-        createSetter = !modifierList.hasModifierProperty(PsiModifier.FINAL);
+        createSetter = !fieldInfo.isFinal();
         //Skip static fields.
-        createSetter &= !modifierList.hasModifierProperty(PsiModifier.STATIC);
+        createSetter &= !fieldInfo.isStatic();
         //Skip fields having Setter annotation already
         createSetter &= !hasFieldProcessorAnnotation(modifierList);
         //Skip fields that start with $
-        createSetter &= !psiField.getName().startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
+        createSetter &= !fieldInfo.isLombokIntern();
         //Skip fields if a method with same name already exists
-        final Collection<String> methodNames = getFieldProcessor().getAllSetterNames(psiField, PsiType.BOOLEAN.equals(psiField.getType()));
-        for (String methodName : methodNames) {
-          createSetter &= !PsiMethodUtil.hasSimilarMethod(classMethods, methodName, 1);
+        for (String methodName : fieldInfo.getAllSetterNames()) {
+          createSetter &= !classMethods.hasSimilarMethod(methodName, 1);
         }
       }
       if (createSetter) {
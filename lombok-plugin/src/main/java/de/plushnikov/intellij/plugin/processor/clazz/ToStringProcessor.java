@@ -1,8 +1,10 @@
 package de.plushnikov.intellij.plugin.processor.clazz;
 
+import com.intellij.openapi.util.Computable;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiArrayType;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCodeBlock;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiManager;
@@ -17,7 +19,6 @@ import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
-import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.ToString;
 import org.jetbrains.annotations.NotNull;
@@ -73,8 +74,7 @@ public class ToStringProcessor extends AbstractClassProcessor {
   protected boolean validateExistingMethods(@NotNull PsiClass psiClass, @NotNull ProblemBuilder builder) {
     boolean result = true;
 
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
-    if (PsiMethodUtil.hasMethodByName(classMethods, METHOD_NAME)) {
+    if (ClassMethodsModel.getInstance(psiClass).hasMethod(METHOD_NAME)) {
       builder.addWarning("Not generated '%s'(): A method with same name already exists", METHOD_NAME);
       result = false;
     }
@@ -88,8 +88,7 @@ public class ToStringProcessor extends AbstractClassProcessor {
 
   @NotNull
   public Collection<PsiMethod> createToStringMethod(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation) {
-    final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
-    if (PsiMethodUtil.hasMethodByName(classMethods, METHOD_NAME)) {
+    if (ClassMethodsModel.getInstance(psiClass).hasMethod(METHOD_NAME)) {
       return Collections.emptyList();
     }
 
@@ -99,7 +98,7 @@ public class ToStringProcessor extends AbstractClassProcessor {
   }
 
   @NotNull
-  public PsiMethod createToStringMethod(@NotNull PsiClass psiClass, @NotNull Collection<PsiField> psiFields, @NotNull PsiAnnotation psiAnnotation) {
+  public PsiMethod createToStringMethod(@NotNull final PsiClass psiClass, @NotNull final Collection<PsiField> psiFields, @NotNull final PsiAnnotation psiAnnotation) {
     final PsiManager psiManager = psiClass.getManager();
     LombokLightMethodBuilder method = new LombokLightMethodBuilder(psiManager, METHOD_NAME)
         .withMethodReturnType(PsiType.getJavaLangString(psiManager, GlobalSearchScope.allScope(psiClass.getProject())))
@@ -107,9 +106,17 @@ public class ToStringProcessor extends AbstractClassProcessor {
         .withNavigationElement(psiAnnotation)
         .withModifier(PsiModifier.PUBLIC);
 
-    final String paramString = createParamString(psiClass, psiFields, psiAnnotation);
-    final String blockText = String.format("return \"%s(%s)\";", psiClass.getQualifiedName(), paramString);
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+    method.withBody(new Computable<PsiCodeBlock>() {
+      @Override
+      public PsiCodeBlock compute() {
+        if (!psiClass.isValid() || !psiAnnotation.isValid()) {
+          return null;
+        }
+        final String paramString = createParamString(psiClass, psiFields, psiAnnotation);
+        final String blockText = String.format("return \"%s(%s)\";", psiClass.getQualifiedName(), paramString);
+        return PsiMethodUtil.createCodeBlockFromText(blockText, psiClass);
+      }
+    });
 
     return method;
   }
@@ -29,6 +29,11 @@ import java.util.List;
  * @author twillouer
  */
 public class ValueProcessor extends AbstractClassProcessor {
+  // delegates are stateless, all field related information is shared through ClassFieldsModel
+  private final GetterProcessor getterProcessor = new GetterProcessor();
+  private final EqualsAndHashCodeProcessor equalsAndHashCodeProcessor = new EqualsAndHashCodeProcessor();
+  private final ToStringProcessor toStringProcessor = new ToStringProcessor();
+  private final AllArgsConstructorProcessor allArgsConstructorProcessor = new AllArgsConstructorProcessor();
 
   public ValueProcessor() {
     this(Value.class);
@@ -75,13 +80,13 @@ public class ValueProcessor extends AbstractClassProcessor {
     */
 
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, Getter.class)) {
-      target.addAll(new GetterProcessor().createFieldGetters(psiClass, PsiModifier.PUBLIC));
+      target.addAll(getterProcessor.createFieldGetters(psiClass, PsiModifier.PUBLIC));
     }
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, EqualsAndHashCode.class)) {
-      target.addAll(new EqualsAndHashCodeProcessor().createEqualAndHashCode(psiClass, psiAnnotation));
+      target.addAll(equalsAndHashCodeProcessor.createEqualAndHashCode(psiClass, psiAnnotation));
     }
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, ToString.class)) {
-      target.addAll(new ToStringProcessor().createToStringMethod(psiClass, psiAnnotation));
+      target.addAll(toStringProcessor.createToStringMethod(psiClass, psiAnnotation));
     }
     // create required constructor only if there are no other constructor annotations
     if (PsiAnnotationUtil.isNotAnnotatedWith(psiClass, NoArgsConstructor.class, RequiredArgsConstructor.class, AllArgsConstructor.class,
@@ -90,8 +95,6 @@ public class ValueProcessor extends AbstractClassProcessor {
       filterToleratedElements(definedConstructors);
       // and only if there are no any other constructors!
       if (definedConstructors.isEmpty()) {
-        final AllArgsConstructorProcessor allArgsConstructorProcessor = new AllArgsConstructorProcessor();
-
         final String staticName = PsiAnnotationUtil.getStringAnnotationValue(psiAnnotation, "staticConstructor");
         final Collection<PsiField> requiredFields = allArgsConstructorProcessor.getAllFields(psiClass);
 
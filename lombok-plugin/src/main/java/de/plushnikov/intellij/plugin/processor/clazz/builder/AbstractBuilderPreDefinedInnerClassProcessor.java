@@ -3,17 +3,13 @@ package de.plushnikov.intellij.plugin.processor.clazz.builder;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.AbstractClassProcessor;
+import de.plushnikov.intellij.plugin.processor.handler.BuilderDescriptor;
 import de.plushnikov.intellij.plugin.processor.handler.BuilderHandler;
 import de.plushnikov.intellij.plugin.psi.LombokLightClassBuilder;
-import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
-import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
@@ -36,42 +32,18 @@ public abstract class AbstractBuilderPreDefinedInnerClassProcessor extends Abstr
 
     final PsiElement parentElement = psiClass.getParent();
     if (parentElement instanceof PsiClass && !(parentElement instanceof LombokLightClassBuilder)) {
-      PsiMethod psiParentMethod = null;
-      final PsiClass psiParentClass = (PsiClass) parentElement;
-      PsiAnnotation psiAnnotation = PsiAnnotationUtil.findAnnotation(psiParentClass, getSupportedAnnotation());
-      if (null == psiAnnotation) {
-        final Collection<PsiMethod> psiMethods = PsiClassUtil.collectClassMethodsIntern(psiParentClass);
-        for (PsiMethod psiMethod : psiMethods) {
-          psiAnnotation = PsiAnnotationUtil.findAnnotation(psiMethod, getSupportedAnnotation());
-          if (null != psiAnnotation) {
-            psiParentMethod = psiMethod;
-            break;
-          }
-        }
-      }
-
-      if (null != psiAnnotation) {
-        final PsiType psiBuilderType = builderHandler.getBuilderType(psiParentClass, psiParentMethod);
-        final String builderClassName;
-
-        if (null == psiParentMethod) {
-          builderClassName = builderHandler.getBuilderClassName(psiParentClass, psiAnnotation, psiBuilderType);
-        } else {
-          builderClassName = builderHandler.getBuilderClassName(psiClass, psiAnnotation, psiBuilderType);
-        }
-
-        // apply only to inner BuilderClass
-        if (builderClassName.equals(psiClass.getName())) {
-          result = new ArrayList<PsiElement>();
-          generatePsiElements(psiParentClass, psiParentMethod, psiClass, psiAnnotation, result);
-        }
+      // apply only to inner BuilderClass, all other inner classes exit after the lookup
+      final BuilderDescriptor builderDescriptor = BuilderDescriptor.findByBuilderClassName((PsiClass) parentElement, getSupportedAnnotation(), psiClass.getName());
+      if (null != builderDescriptor) {
+        result = new ArrayList<PsiElement>();
+        generatePsiElements(builderDescriptor, psiClass, result);
       }
     }
 
     return result;
   }
 
-  protected abstract void generatePsiElements(@NotNull PsiClass psiParentClass, @Nullable PsiMethod psiParentMethod, @NotNull PsiClass psiBuilderClass, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target);
+  protected abstract void generatePsiElements(@NotNull BuilderDescriptor builderDescriptor, @NotNull PsiClass psiBuilderClass, @NotNull List<? super PsiElement> target);
 
   @NotNull
   @Override
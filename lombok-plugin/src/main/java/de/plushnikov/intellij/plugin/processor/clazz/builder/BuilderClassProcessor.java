@@ -5,6 +5,7 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.AbstractClassProcessor;
+import de.plushnikov.intellij.plugin.processor.handler.BuilderDescriptor;
 import de.plushnikov.intellij.plugin.processor.handler.BuilderHandler;
 import lombok.Builder;
 import org.jetbrains.annotations.NotNull;
@@ -37,8 +38,9 @@ public class BuilderClassProcessor extends AbstractClassProcessor {
   }
 
   protected void generatePsiElements(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
-    if (builderHandler.existInnerClass(psiClass, psiAnnotation)) {
-      target.add(builderHandler.createBuilderClass(psiClass, psiAnnotation));
+    final BuilderDescriptor builderDescriptor = BuilderDescriptor.findByAnnotation(psiClass, psiAnnotation);
+    if (null != builderDescriptor && null == builderHandler.findInnerBuilderClass(builderDescriptor)) {
+      target.add(builderHandler.createBuilderClass(builderDescriptor));
     }
   }
 }
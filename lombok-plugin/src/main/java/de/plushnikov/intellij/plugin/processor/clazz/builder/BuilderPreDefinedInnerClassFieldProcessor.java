@@ -1,15 +1,14 @@
 package de.plushnikov.intellij.plugin.processor.clazz.builder;
 
-import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
+import de.plushnikov.intellij.plugin.processor.handler.BuilderDescriptor;
 import de.plushnikov.intellij.plugin.processor.handler.BuilderHandler;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import lombok.Builder;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
@@ -33,10 +32,11 @@ public class BuilderPreDefinedInnerClassFieldProcessor extends AbstractBuilderPr
   }
 
   @Override
-  protected void generatePsiElements(@NotNull PsiClass psiParentClass, @Nullable PsiMethod psiParentMethod, @NotNull PsiClass psiBuilderClass, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
+  protected void generatePsiElements(@NotNull BuilderDescriptor builderDescriptor, @NotNull PsiClass psiBuilderClass, @NotNull List<? super PsiElement> target) {
     final Collection<PsiField> existedFields = PsiClassUtil.collectClassFieldsIntern(psiBuilderClass);
+    final PsiMethod psiParentMethod = builderDescriptor.getPsiMethod();
     if (null == psiParentMethod) {
-      target.addAll(builderHandler.createFields(psiParentClass, existedFields));
+      target.addAll(builderHandler.createFields(builderDescriptor.getPsiClass(), existedFields));
     } else {
       target.addAll(builderHandler.createFields(psiParentMethod, existedFields));
     }
@@ -1,14 +1,12 @@
 package de.plushnikov.intellij.plugin.processor.clazz.builder;
 
-import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiType;
+import de.plushnikov.intellij.plugin.processor.handler.BuilderDescriptor;
 import lombok.Builder;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
@@ -29,17 +27,16 @@ public class BuilderPreDefinedInnerClassMethodProcessor extends AbstractBuilderP
     super(builderClass, PsiMethod.class);
   }
 
-  protected void generatePsiElements(@NotNull PsiClass psiParentClass, @Nullable PsiMethod psiParentMethod, @NotNull PsiClass psiBuilderClass, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
-    final PsiType psiBuilderType = builderHandler.getBuilderType(psiParentClass, psiParentMethod);
+  protected void generatePsiElements(@NotNull BuilderDescriptor builderDescriptor, @NotNull PsiClass psiBuilderClass, @NotNull List<? super PsiElement> target) {
+    final PsiMethod psiParentMethod = builderDescriptor.getPsiMethod();
+    final Collection<PsiField> tmpFields;
     if (null == psiParentMethod) {
-      final Collection<PsiField> tmpFields = builderHandler.createFields(psiParentClass);
-      target.addAll(builderHandler.createConstructors(psiBuilderClass, psiAnnotation));
-      target.addAll(builderHandler.createMethods(psiParentClass, null, psiBuilderClass, psiBuilderType, psiAnnotation, tmpFields));
+      tmpFields = builderHandler.createFields(builderDescriptor.getPsiClass());
     } else {
-      final Collection<PsiField> tmpFields = builderHandler.createFields(psiParentMethod);
-      target.addAll(builderHandler.createConstructors(psiBuilderClass, psiAnnotation));
-      target.addAll(builderHandler.createMethods(psiParentClass, psiParentMethod, psiBuilderClass, psiBuilderType, psiAnnotation, tmpFields));
+      tmpFields = builderHandler.createFields(psiParentMethod);
     }
+    target.addAll(builderHandler.createConstructors(psiBuilderClass, builderDescriptor.getAnnotation()));
+    target.addAll(builderHandler.createMethods(builderDescriptor, psiBuilderClass, tmpFields));
   }
 
 }
@@ -5,10 +5,10 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
-import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.AbstractClassProcessor;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.AllArgsConstructorProcessor;
+import de.plushnikov.intellij.plugin.processor.handler.BuilderDescriptor;
 import de.plushnikov.intellij.plugin.processor.handler.BuilderHandler;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
@@ -54,13 +54,13 @@ public class BuilderProcessor extends AbstractClassProcessor {
       }
     }
 
-    final PsiType psiBuilderType = builderHandler.getBuilderType(psiClass);
-
-    final String builderClassName = builderHandler.getBuilderClassName(psiClass, psiAnnotation, psiBuilderType);
-    PsiClass builderClass = PsiClassUtil.getInnerClassInternByName(psiClass, builderClassName);
-    if (null == builderClass) {
-      builderClass = builderHandler.createBuilderClass(psiClass, psiAnnotation);
+    final BuilderDescriptor builderDescriptor = BuilderDescriptor.findByAnnotation(psiClass, psiAnnotation);
+    if (null != builderDescriptor) {
+      PsiClass builderClass = builderHandler.findInnerBuilderClass(builderDescriptor);
+      if (null == builderClass) {
+        builderClass = builderHandler.createBuilderClass(builderDescriptor);
+      }
+      target.add(builderHandler.createBuilderMethod(psiClass, null, builderClass, psiAnnotation));
     }
-    target.add(builderHandler.createBuilderMethod(psiClass, null, builderClass, psiAnnotation));
   }
 }
@@ -7,7 +7,6 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
-import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiParameterList;
 import com.intellij.psi.PsiType;
@@ -16,16 +15,14 @@ import com.intellij.util.StringBuilderSpinAllocator;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigKeys;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.AbstractClassProcessor;
+import de.plushnikov.intellij.plugin.processor.clazz.ClassFieldsModel;
 import de.plushnikov.intellij.plugin.processor.field.AccessorsInfo;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
-import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import de.plushnikov.intellij.plugin.util.PsiElementUtil;
 import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
-import lombok.Value;
-import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -124,37 +121,30 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
   }
 
   @NotNull
-  @SuppressWarnings("deprecation")
   protected Collection<PsiField> getAllNotInitializedAndNotStaticFields(@NotNull PsiClass psiClass) {
     Collection<PsiField> allNotInitializedNotStaticFields = new ArrayList<PsiField>();
-    final boolean classAnnotatedWithValue = PsiAnnotationUtil.isAnnotatedWith(psiClass, Value.class, lombok.experimental.Value.class);
-    for (PsiField psiField : psiClass.getFields()) {
-      // skip fields named $
-      boolean addField = !psiField.getName().startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
-
-      final PsiModifierList modifierList = psiField.getModifierList();
-      if (null != modifierList) {
-        // skip static fields
-        addField &= !modifierList.hasModifierProperty(PsiModifier.STATIC);
-
-        boolean isFinal = isFieldFinal(psiField, modifierList, classAnnotatedWithValue);
-        // skip initialized final fields
-        addField &= (!isFinal || null == psiField.getInitializer());
-      }
-
-      if (addField) {
-        allNotInitializedNotStaticFields.add(psiField);
-      }
+    for (ClassFieldsModel.FieldInfo fieldInfo : getNotInitializedAndNotStaticFieldInfos(psiClass)) {
+      allNotInitializedNotStaticFields.add(fieldInfo.getField());
     }
     return allNotInitializedNotStaticFields;
   }
 
-  protected boolean isFieldFinal(@NotNull PsiField psiField, @NotNull PsiModifierList modifierList, boolean classAnnotatedWithValue) {
-    boolean isFinal = modifierList.hasModifierProperty(PsiModifier.FINAL);
-    if (!isFinal && classAnnotatedWithValue) {
-      isFinal = PsiAnnotationUtil.isNotAnnotatedWith(psiField, NonFinal.class);
+  @NotNull
+  protected Collection<ClassFieldsModel.FieldInfo> getNotInitializedAndNotStaticFieldInfos(@NotNull PsiClass psiClass) {
+    Collection<ClassFieldsModel.FieldInfo> result = new ArrayList<ClassFieldsModel.FieldInfo>();
+    for (ClassFieldsModel.FieldInfo fieldInfo : ClassFieldsModel.getInstance(psiClass).getFields()) {
+      // skip fields named $
+      boolean addField = !fieldInfo.isLombokIntern();
+      // skip static fields
+      addField &= !fieldInfo.isStatic();
+      // skip initialized final fields
+      addField &= (!fieldInfo.isFinalOrValue() || !fieldInfo.isInitialized());
+
+      if (addField) {
+        result.add(fieldInfo);
+      }
     }
-    return isFinal;
+    return result;
   }
 
   @NotNull
@@ -196,7 +186,6 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
         .withModifier(modifier);
 
     final AccessorsInfo accessorsInfo = AccessorsInfo.build(psiClass);
-    final PsiModifierList modifierList = constructor.getModifierList();
 
     if (!suppressConstructorProperties && !params.isEmpty()) {
       StringBuilder constructorPropertiesAnnotation = new StringBuilder("java.beans.ConstructorProperties( {");
@@ -206,10 +195,10 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
       constructorPropertiesAnnotation.deleteCharAt(constructorPropertiesAnnotation.length() - 1);
       constructorPropertiesAnnotation.append("} ) ");
 
-      modifierList.addAnnotation(constructorPropertiesAnnotation.toString());
+      constructor.withAnnotation(constructorPropertiesAnnotation.toString());
     }
 
-    addOnXAnnotations(psiAnnotation, modifierList, "onConstructor");
+    addOnXAnnotations(psiAnnotation, constructor, "onConstructor");
 
     for (PsiField param : params) {
       constructor.withParameter(accessorsInfo.removePrefix(param.getName()), param.getType());
@@ -219,7 +208,7 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
     for (PsiField param : params) {
       blockText.append(String.format("this.%s = %s;\n", param.getName(), accessorsInfo.removePrefix(param.getName())));
     }
-    constructor.withBody(PsiMethodUtil.createCodeBlockFromText(blockText.toString(), psiClass));
+    constructor.withBody(PsiMethodUtil.createLazyCodeBlockFromText(blockText.toString(), psiClass));
 
     return constructor;
   }
@@ -238,7 +227,7 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
     final String paramsText = joinParameters(method.getParameterList());
     final String psiClassName = buildClassNameWithGenericTypeParameters(psiClass);
     final String blockText = String.format("return new %s(%s);", psiClassName, paramsText);
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+    method.withBody(PsiMethodUtil.createLazyCodeBlockFromText(blockText, psiClass));
 
     return method;
   }
@@ -6,13 +6,10 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
-import com.intellij.psi.PsiModifierList;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
-import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
+import de.plushnikov.intellij.plugin.processor.clazz.ClassFieldsModel;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
-import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import lombok.RequiredArgsConstructor;
-import lombok.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -59,20 +56,12 @@ public class RequiredArgsConstructorProcessor extends AbstractConstructorClassPr
   }
 
   @NotNull
-  @SuppressWarnings("deprecation")
   public Collection<PsiField> getRequiredFields(@NotNull PsiClass psiClass) {
     Collection<PsiField> result = new ArrayList<PsiField>();
-    final boolean classAnnotatedWithValue = PsiAnnotationUtil.isAnnotatedWith(psiClass, Value.class, lombok.experimental.Value.class);
-
-    for (PsiField psiField : getAllNotInitializedAndNotStaticFields(psiClass)) {
-      final PsiModifierList modifierList = psiField.getModifierList();
-      if (null != modifierList) {
-        final boolean isFinal = isFieldFinal(psiField, modifierList, classAnnotatedWithValue);
-        final boolean isNonNull = PsiAnnotationUtil.isAnnotatedWith(psiField, LombokUtils.NON_NULL_PATTERN);
-        // accept initialized final or nonnull fields
-        if ((isFinal || isNonNull) && null == psiField.getInitializer()) {
-          result.add(psiField);
-        }
+    for (ClassFieldsModel.FieldInfo fieldInfo : getNotInitializedAndNotStaticFieldInfos(psiClass)) {
+      // accept initialized final or nonnull fields
+      if ((fieldInfo.isFinalOrValue() || fieldInfo.isNonNull()) && !fieldInfo.isInitialized()) {
+        result.add(fieldInfo.getField());
       }
     }
     return result;
@@ -11,6 +11,7 @@ import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
 import de.plushnikov.intellij.plugin.problem.ProblemNewBuilder;
 import de.plushnikov.intellij.plugin.processor.AbstractProcessor;
+import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import org.jetbrains.annotations.NotNull;
@@ -86,4 +87,11 @@ public abstract class AbstractFieldProcessor extends AbstractProcessor implement
     }
   }
 
+  protected void copyAnnotations(final PsiField fromPsiElement, final LombokLightMethodBuilder toLightMethodBuilder, final Pattern... patterns) {
+    final Collection<String> annotationsToCopy = PsiAnnotationUtil.collectAnnotationsToCopy(fromPsiElement, patterns);
+    for (String annotationFQN : annotationsToCopy) {
+      toLightMethodBuilder.withAnnotation(annotationFQN);
+    }
+  }
+
 }
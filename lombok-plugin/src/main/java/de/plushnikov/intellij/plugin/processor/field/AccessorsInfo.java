@@ -1,10 +1,18 @@
 package de.plushnikov.intellij.plugin.processor.field;
 
 import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import de.plushnikov.intellij.plugin.lombokconfig.ConfigChangeTracker;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigDiscovery;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigKeys;
 import de.plushnikov.intellij.plugin.processor.AbstractProcessor;
@@ -13,6 +21,7 @@ import lombok.experimental.Accessors;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -21,6 +30,12 @@ import java.util.Collection;
 public class AccessorsInfo {
   private static final String ACCESSORS_ANNOTATION_NAME = Accessors.class.getName();
 
+  private static final Key<CachedValue<AccessorsInfo>> CLASS_ACCESSORS_KEY = Key.create("lombok.class.accessors");
+  private static final Key<CachedValue<AccessorsInfo>> FIELD_ACCESSORS_KEY = Key.create("lombok.field.accessors");
+
+  // AccessorsInfo is immutable, so the default instance is shared between all classes and fields
+  private static final AccessorsInfo DEFAULT = new AccessorsInfo(false, false, false);
+
   private final boolean fluent;
   private final boolean chain;
   private final String[] prefixes;
@@ -34,10 +49,51 @@ public class AccessorsInfo {
   }
 
   public static AccessorsInfo build(boolean fluentValue, boolean chainValue, boolean dontUseIsPrefix, String... prefixes) {
-    return new AccessorsInfo(fluentValue, chainValue, dontUseIsPrefix, prefixes);
+    return shareDefault(new AccessorsInfo(fluentValue, chainValue, dontUseIsPrefix, prefixes));
+  }
+
+  /**
+   * Resolves accessors of the field: @Accessors of the field itself or of the containing classes.
+   * Result is cached until the file or some lombok.config is changed.
+   */
+  public static AccessorsInfo build(@NotNull final PsiField psiField) {
+    return CachedValuesManager.getManager(psiField.getProject()).getCachedValue(psiField, FIELD_ACCESSORS_KEY,
+        new CachedValueProvider<AccessorsInfo>() {
+          @Nullable
+          @Override
+          public Result<AccessorsInfo> compute() {
+            return Result.create(buildIntern(psiField), getDependencies(psiField));
+          }
+        }, false);
   }
 
-  public static AccessorsInfo build(@NotNull PsiField psiField) {
+  /**
+   * Resolves accessors of the class: @Accessors of the class or of its containing classes.
+   * Result is cached until the file or some lombok.config is changed.
+   */
+  public static AccessorsInfo build(@Nullable final PsiClass psiClass) {
+    if (null == psiClass) {
+      return DEFAULT;
+    }
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass, CLASS_ACCESSORS_KEY,
+        new CachedValueProvider<AccessorsInfo>() {
+          @Nullable
+          @Override
+          public Result<AccessorsInfo> compute() {
+            return Result.create(buildIntern(psiClass), getDependencies(psiClass));
+          }
+        }, false);
+  }
+
+  @NotNull
+  private static Object[] getDependencies(@NotNull PsiElement psiElement) {
+    final PsiFile containingFile = psiElement.getContainingFile();
+    final Object fileDependency = null == containingFile ? PsiModificationTracker.MODIFICATION_COUNT : containingFile;
+    return new Object[]{fileDependency, ConfigChangeTracker.getInstance()};
+  }
+
+  @NotNull
+  private static AccessorsInfo buildIntern(@NotNull PsiField psiField) {
     final PsiAnnotation accessorsFieldAnnotation = AnnotationUtil.findAnnotation(psiField, ACCESSORS_ANNOTATION_NAME);
     final PsiClass containingClass = psiField.getContainingClass();
     if (null != accessorsFieldAnnotation) {
@@ -47,7 +103,8 @@ public class AccessorsInfo {
     }
   }
 
-  public static AccessorsInfo build(@Nullable PsiClass psiClass) {
+  @NotNull
+  private static AccessorsInfo buildIntern(@NotNull PsiClass psiClass) {
     PsiClass containingClass = psiClass;
     while (null != containingClass) {
       final PsiAnnotation accessorsClassAnnotation = AnnotationUtil.findAnnotation(containingClass, ACCESSORS_ANNOTATION_NAME);
@@ -56,7 +113,12 @@ public class AccessorsInfo {
       }
       containingClass = containingClass.getContainingClass();
     }
-    return build(false, false, false);
+    return DEFAULT;
+  }
+
+  @NotNull
+  private static AccessorsInfo shareDefault(@NotNull AccessorsInfo accessorsInfo) {
+    return DEFAULT.equals(accessorsInfo) ? DEFAULT : accessorsInfo;
   }
 
   private static AccessorsInfo buildFromAnnotation(PsiAnnotation accessorsAnnotation, PsiClass psiClass) {
@@ -64,12 +126,18 @@ public class AccessorsInfo {
     final boolean isChained = AbstractProcessor.readAnnotationOrConfigProperty(accessorsAnnotation, psiClass, "chain", ConfigKeys.ACCESSORS_CHAIN);
 
     Boolean chainDeclaredValue = PsiAnnotationUtil.getDeclaredBooleanAnnotationValue(accessorsAnnotation, "chain");
-    Collection<String> prefixes = PsiAnnotationUtil.getAnnotationValues(accessorsAnnotation, "prefix", String.class);
+    final String[] prefixes;
+    if (null == accessorsAnnotation.findDeclaredAttributeValue("prefix")) {
+      prefixes = ConfigDiscovery.getInstance().getMultipleValueLombokConfigProperty(ConfigKeys.ACCESSORS_PREFIX, psiClass);
+    } else {
+      final Collection<String> annotationPrefixes = PsiAnnotationUtil.getAnnotationValues(accessorsAnnotation, "prefix", String.class);
+      prefixes = annotationPrefixes.toArray(new String[annotationPrefixes.size()]);
+    }
 
     final boolean dontUseIsPrefix = ConfigDiscovery.getInstance().getBooleanLombokConfigProperty(ConfigKeys.GETTER_NO_IS_PREFIX, psiClass);
 
     boolean isChainDeclaredOrImplicit = isChained || (isFluent && null == chainDeclaredValue);
-    return new AccessorsInfo(isFluent, isChainDeclaredOrImplicit, dontUseIsPrefix, prefixes.toArray(new String[prefixes.size()]));
+    return shareDefault(new AccessorsInfo(isFluent, isChainDeclaredOrImplicit, dontUseIsPrefix, prefixes));
   }
 
   public boolean isFluent() {
@@ -84,8 +152,11 @@ public class AccessorsInfo {
     return dontUseIsPrefix;
   }
 
+  /**
+   * @return copy of the prefixes, the instance itself may be shared
+   */
   public String[] getPrefixes() {
-    return prefixes;
+    return prefixes.clone();
   }
 
   public boolean prefixDefinedAndStartsWith(String fieldName) {
@@ -115,4 +186,28 @@ public class AccessorsInfo {
     return fieldName.startsWith(prefix) && fieldName.length() > prefixLength &&
         (prefixLength == 0 || Character.isUpperCase(fieldName.charAt(prefixLength)) || !Character.isLetter(fieldName.charAt(prefixLength - 1)));
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    AccessorsInfo that = (AccessorsInfo) o;
+
+    return fluent == that.fluent && chain == that.chain && dontUseIsPrefix == that.dontUseIsPrefix &&
+        Arrays.equals(prefixes, that.prefixes);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = (fluent ? 1 : 0);
+    result = 31 * result + (chain ? 1 : 0);
+    result = 31 * result + (dontUseIsPrefix ? 1 : 0);
+    result = 31 * result + Arrays.hashCode(prefixes);
+    return result;
+  }
 }
@@ -7,15 +7,14 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
-import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.processor.clazz.ClassMethodsModel;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
-import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
@@ -95,10 +94,10 @@ public class GetterFieldProcessor extends AbstractFieldProcessor {
       final boolean isBoolean = PsiType.BOOLEAN.equals(psiField.getType());
       final AccessorsInfo accessorsInfo = AccessorsInfo.build(psiField);
       final Collection<String> methodNames = LombokUtils.toAllGetterNames(accessorsInfo, psiField.getName(), isBoolean);
-      final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
+      final ClassMethodsModel classMethods = ClassMethodsModel.getInstance(psiClass);
 
       for (String methodName : methodNames) {
-        if (PsiMethodUtil.hasSimilarMethod(classMethods, methodName, 0)) {
+        if (classMethods.hasSimilarMethod(methodName, 0)) {
           final String setterMethodName = getGetterName(psiField);
 
           builder.addWarning("Not generated '%s'(): A method with similar name '%s' already exists", setterMethodName, methodName);
@@ -134,12 +133,11 @@ public class GetterFieldProcessor extends AbstractFieldProcessor {
       method.withModifier(PsiModifier.STATIC);
     }
 
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(String.format("return %s.%s;", isStatic ? psiClass.getName() : "this", psiField.getName()), psiClass));
+    method.withBody(PsiMethodUtil.createLazyCodeBlockFromText(String.format("return %s.%s;", isStatic ? psiClass.getName() : "this", psiField.getName()), psiClass));
 
-    PsiModifierList modifierList = method.getModifierList();
-    copyAnnotations(psiField, modifierList,
+    copyAnnotations(psiField, method,
         LombokUtils.NON_NULL_PATTERN, LombokUtils.NULLABLE_PATTERN, LombokUtils.DEPRECATED_PATTERN);
-    addOnXAnnotations(PsiAnnotationUtil.findAnnotation(psiField, Getter.class), modifierList, "onMethod");
+    addOnXAnnotations(PsiAnnotationUtil.findAnnotation(psiField, Getter.class), method, "onMethod");
     return method;
   }
 }
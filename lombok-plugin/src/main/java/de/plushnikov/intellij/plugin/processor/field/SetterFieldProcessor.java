@@ -11,6 +11,7 @@ import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.processor.clazz.ClassMethodsModel;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
@@ -85,13 +86,13 @@ public class SetterFieldProcessor extends AbstractFieldProcessor {
     boolean result = true;
     final PsiClass psiClass = psiField.getContainingClass();
     if (null != psiClass) {
-      final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
+      final ClassMethodsModel classMethods = ClassMethodsModel.getInstance(psiClass);
 
       final boolean isBoolean = PsiType.BOOLEAN.equals(psiField.getType());
       final Collection<String> methodNames = getAllSetterNames(psiField, isBoolean);
 
       for (String methodName : methodNames) {
-        if (PsiMethodUtil.hasSimilarMethod(classMethods, methodName, 1)) {
+        if (classMethods.hasSimilarMethod(methodName, 1)) {
           final String setterMethodName = getSetterName(psiField, isBoolean);
 
           builder.addWarning("Not generated '%s'(): A method with similar name '%s' already exists", setterMethodName, methodName);
@@ -162,11 +163,10 @@ public class SetterFieldProcessor extends AbstractFieldProcessor {
       blockText += "return this;";
     }
 
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiClass));
+    method.withBody(PsiMethodUtil.createLazyCodeBlockFromText(blockText, psiClass));
 
-    PsiModifierList methodModifierList = method.getModifierList();
-    copyAnnotations(psiField, methodModifierList, LombokUtils.DEPRECATED_PATTERN);
-    addOnXAnnotations(setterAnnotation, methodModifierList, "onMethod");
+    copyAnnotations(psiField, method, LombokUtils.DEPRECATED_PATTERN);
+    addOnXAnnotations(setterAnnotation, method, "onMethod");
 
     return method;
   }
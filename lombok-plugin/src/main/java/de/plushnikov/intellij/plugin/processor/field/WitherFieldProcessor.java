@@ -11,6 +11,7 @@ import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiType;
 import com.intellij.util.StringBuilderSpinAllocator;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.processor.clazz.ClassMethodsModel;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.RequiredArgsConstructorProcessor;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightParameter;
@@ -101,12 +102,12 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
     final PsiClass fieldContainingClass = psiField.getContainingClass();
     final String psiFieldName = psiField.getName();
     if (psiFieldName != null && fieldContainingClass != null) {
-      final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(fieldContainingClass);
+      final ClassMethodsModel classMethods = ClassMethodsModel.getInstance(fieldContainingClass);
 
       final AccessorsInfo accessorsInfo = AccessorsInfo.build(psiField);
       final Collection<String> possibleWitherNames = LombokUtils.toAllWitherNames(accessorsInfo, psiFieldName, PsiType.BOOLEAN.equals(psiField.getType()));
       for (String witherName : possibleWitherNames) {
-        if (PsiMethodUtil.hasSimilarMethod(classMethods, witherName, 1)) {
+        if (classMethods.hasSimilarMethod(witherName, 1)) {
           builder.addWarning("Not generating %s(): A method with that name already exists", witherName);
           return false;
         }
@@ -183,7 +184,7 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
           .withModifier(methodModifier);
 
       PsiAnnotation witherAnnotation = PsiAnnotationUtil.findAnnotation(psiField, Wither.class);
-      addOnXAnnotations(witherAnnotation, result.getModifierList(), "onMethod");
+      addOnXAnnotations(witherAnnotation, result, "onMethod");
 
       final LombokLightParameter methodParameter = new LombokLightParameter(psiFieldName, psiFieldType, result, JavaLanguage.INSTANCE);
       PsiModifierList methodParameterModifierList = methodParameter.getModifierList();
@@ -194,7 +195,7 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
 
       final String paramString = getConstructorCall(psiField, psiFieldContainingClass);
       final String blockText = String.format("return this.%s == %s ? this : new %s(%s);", psiFieldName, psiFieldName, returnType.getCanonicalText(), paramString);
-      result.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, psiFieldContainingClass));
+      result.withBody(PsiMethodUtil.createLazyCodeBlockFromText(blockText, psiFieldContainingClass));
     }
     return result;
   }
@@ -0,0 +1,208 @@
+package de.plushnikov.intellij.plugin.processor.handler;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import lombok.Builder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolved @Builder (or @experimental.Builder) of a class or of one of its constructors and static methods:
+ * annotated element, name and type of the builder class and name of the build method.
+ * All descriptors of a class are resolved in a single pass over the class and cached until the class is changed.
+ */
+public class BuilderDescriptor {
+  private static final Key<CachedValue<ClassBuilderDescriptors>> BUILDER_DESCRIPTORS_KEY = Key.create("lombok.builder.descriptors");
+
+  @SuppressWarnings("deprecation")
+  private static final String[] BUILDER_ANNOTATIONS = {Builder.class.getName(), lombok.experimental.Builder.class.getName()};
+  private static final String BUILDER_SIMPLE_NAME = Builder.class.getSimpleName();
+
+  private static final BuilderHandler builderHandler = new BuilderHandler();
+
+  private final String annotationName;
+  private final PsiAnnotation psiAnnotation;
+  private final PsiClass psiClass;
+  private final PsiMethod psiMethod;
+  private final PsiType builderType;
+  private final String builderClassName;
+  private final String buildMethodName;
+
+  private BuilderDescriptor(@NotNull String annotationName, @NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass, @Nullable PsiMethod psiMethod) {
+    this.annotationName = annotationName;
+    this.psiAnnotation = psiAnnotation;
+    this.psiClass = psiClass;
+    this.psiMethod = psiMethod;
+    this.builderType = builderHandler.getBuilderType(psiClass, psiMethod);
+    this.builderClassName = builderHandler.getBuilderClassName(psiClass, psiAnnotation, builderType);
+    this.buildMethodName = BuilderHandler.getBuildMethodName(psiAnnotation);
+  }
+
+  /**
+   * @return qualified name of the builder annotation
+   */
+  @NotNull
+  public String getAnnotationName() {
+    return annotationName;
+  }
+
+  @NotNull
+  public PsiAnnotation getAnnotation() {
+    return psiAnnotation;
+  }
+
+  /**
+   * @return class, which is annotated or contains the annotated method
+   */
+  @NotNull
+  public PsiClass getPsiClass() {
+    return psiClass;
+  }
+
+  /**
+   * @return annotated constructor or static method, null if the class itself is annotated
+   */
+  @Nullable
+  public PsiMethod getPsiMethod() {
+    return psiMethod;
+  }
+
+  @NotNull
+  public PsiType getBuilderType() {
+    return builderType;
+  }
+
+  @NotNull
+  public String getBuilderClassName() {
+    return builderClassName;
+  }
+
+  @NotNull
+  public String getBuildMethodName() {
+    return buildMethodName;
+  }
+
+  /**
+   * @return all builders of the class, builder of the class itself first, then builders of its methods in declaration order
+   */
+  @NotNull
+  public static List<BuilderDescriptor> getDescriptors(@NotNull PsiClass psiClass) {
+    return getClassBuilderDescriptors(psiClass).descriptors;
+  }
+
+  /**
+   * Finds the builder of the class, which has to be generated as (or into) the inner class with given name
+   */
+  @Nullable
+  public static BuilderDescriptor findByBuilderClassName(@NotNull PsiClass psiClass, @NotNull String annotationName, @Nullable String builderClassName) {
+    if (null == builderClassName) {
+      return null;
+    }
+    return getClassBuilderDescriptors(psiClass).descriptorsByBuilderClass.get(createKey(annotationName, builderClassName));
+  }
+
+  /**
+   * Checks if any builder of the class has an inner class with given name
+   */
+  public static boolean hasBuilderClass(@NotNull PsiClass psiClass, @NotNull String builderClassName) {
+    for (String annotationName : BUILDER_ANNOTATIONS) {
+      if (null != findByBuilderClassName(psiClass, annotationName, builderClassName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Nullable
+  public static BuilderDescriptor findByAnnotation(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation) {
+    for (BuilderDescriptor descriptor : getDescriptors(psiClass)) {
+      if (psiAnnotation.getManager().areElementsEquivalent(psiAnnotation, descriptor.psiAnnotation)) {
+        return descriptor;
+      }
+    }
+    return null;
+  }
+
+  @NotNull
+  private static String createKey(@NotNull String annotationName, @NotNull String builderClassName) {
+    return annotationName + '#' + builderClassName;
+  }
+
+  @NotNull
+  private static ClassBuilderDescriptors getClassBuilderDescriptors(@NotNull final PsiClass psiClass) {
+    return CachedValuesManager.getManager(psiClass.getProject()).getCachedValue(psiClass, BUILDER_DESCRIPTORS_KEY,
+        new CachedValueProvider<ClassBuilderDescriptors>() {
+          @Nullable
+          @Override
+          public Result<ClassBuilderDescriptors> compute() {
+            final Object fileDependency = null == psiClass.getContainingFile() ? PsiModificationTracker.MODIFICATION_COUNT : psiClass.getContainingFile();
+            // builder type of static methods depends on the resolved return type
+            return Result.create(new ClassBuilderDescriptors(psiClass), fileDependency, PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT);
+          }
+        }, false);
+  }
+
+  private static class ClassBuilderDescriptors {
+    private final List<BuilderDescriptor> descriptors;
+    private final Map<String, BuilderDescriptor> descriptorsByBuilderClass;
+
+    private ClassBuilderDescriptors(@NotNull PsiClass psiClass) {
+      final List<BuilderDescriptor> result = new ArrayList<BuilderDescriptor>(1);
+      addDescriptors(result, psiClass, psiClass, null);
+      for (PsiMethod psiMethod : PsiClassUtil.collectClassMethodsIntern(psiClass)) {
+        addDescriptors(result, psiMethod, psiClass, psiMethod);
+      }
+
+      if (result.isEmpty()) {
+        descriptors = Collections.emptyList();
+        descriptorsByBuilderClass = Collections.emptyMap();
+      } else {
+        descriptors = Collections.unmodifiableList(result);
+        descriptorsByBuilderClass = new HashMap<String, BuilderDescriptor>(result.size());
+        for (BuilderDescriptor descriptor : result) {
+          final String key = createKey(descriptor.annotationName, descriptor.builderClassName);
+          if (!descriptorsByBuilderClass.containsKey(key)) {
+            descriptorsByBuilderClass.put(key, descriptor);
+          }
+        }
+      }
+    }
+
+    private static void addDescriptors(@NotNull Collection<BuilderDescriptor> target, @NotNull PsiModifierListOwner annotatedElement,
+                                       @NotNull PsiClass psiClass, @Nullable PsiMethod psiMethod) {
+      final PsiModifierList modifierList = annotatedElement.getModifierList();
+      if (null == modifierList) {
+        return;
+      }
+      for (PsiAnnotation psiAnnotation : modifierList.getAnnotations()) {
+        // resolve only annotations with matching simple name
+        if (BUILDER_SIMPLE_NAME.equals(PsiAnnotationUtil.getSimpleNameOf(psiAnnotation))) {
+          final String qualifiedName = psiAnnotation.getQualifiedName();
+          for (String annotationName : BUILDER_ANNOTATIONS) {
+            if (annotationName.equals(qualifiedName)) {
+              target.add(new BuilderDescriptor(annotationName, psiAnnotation, psiClass, psiMethod));
+            }
+          }
+        }
+      }
+    }
+  }
+}
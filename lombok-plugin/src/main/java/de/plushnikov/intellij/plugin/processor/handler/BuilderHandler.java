@@ -1,6 +1,7 @@
 package de.plushnikov.intellij.plugin.processor.handler;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
@@ -139,15 +140,12 @@ public class BuilderHandler {
     return true;
   }
 
-  public boolean existInnerClass(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation) {
-    return existInnerClass(psiClass, null, psiAnnotation);
-  }
-
-  public boolean existInnerClass(@NotNull PsiClass psiClass, @Nullable PsiMethod psiMethod, @NotNull PsiAnnotation psiAnnotation) {
-    final PsiType psiBuilderType = getBuilderType(psiClass, psiMethod);
-    final String builderClassName = getBuilderClassName(psiClass, psiAnnotation, psiBuilderType);
-    final PsiClass innerBuilderClass = PsiClassUtil.getInnerClassInternByName(psiClass, builderClassName);
-    return null == innerBuilderClass;
+  /**
+   * @return predefined inner builder class of the descriptor, null if the builder class has to be generated
+   */
+  @Nullable
+  public PsiClass findInnerBuilderClass(@NotNull BuilderDescriptor builderDescriptor) {
+    return PsiClassUtil.getInnerClassInternByName(builderDescriptor.getPsiClass(), builderDescriptor.getBuilderClassName());
   }
 
   public PsiType getBuilderType(@NotNull PsiClass psiClass) {
@@ -202,39 +200,47 @@ public class BuilderHandler {
 
     addTypeParameters(builderPsiClass, psiMethod, method);
 
-    method.withBody(PsiMethodUtil.createCodeBlockFromText(String.format("return new %s();", psiTypeWithGenerics.getPresentableText()), containingClass));
+    method.withBody(PsiMethodUtil.createLazyCodeBlockFromText(String.format("return new %s();", psiTypeWithGenerics.getPresentableText()), containingClass));
     return method;
   }
 
+  /**
+   * Creates the builder class; its constructors, fields and methods are created on first request only
+   */
   @NotNull
-  public PsiClass createBuilderClass(@NotNull PsiClass psiClass, @NotNull PsiMethod psiMethod, @NotNull PsiAnnotation psiAnnotation) {
-    final PsiType psiBuilderType = getBuilderType(psiClass, psiMethod);
-
-    final String builderClassName = getBuilderClassName(psiClass, psiAnnotation, psiBuilderType);
-
-    LombokLightClassBuilder builderClass = createBuilderClass(psiClass, psiMethod, builderClassName, psiAnnotation);
-    builderClass.withConstructors(createConstructors(builderClass, psiAnnotation));
-
-    final Collection<PsiField> builderFields = createFields(psiMethod);
-    builderClass.withFields(builderFields);
-    builderClass.withMethods(createMethods(psiClass, psiMethod, builderClass, psiBuilderType, psiAnnotation, builderFields));
+  public PsiClass createBuilderClass(@NotNull final BuilderDescriptor builderDescriptor) {
+    final PsiClass psiClass = builderDescriptor.getPsiClass();
+    final PsiMethod psiMethod = builderDescriptor.getPsiMethod();
+    final PsiAnnotation psiAnnotation = builderDescriptor.getAnnotation();
+
+    final PsiTypeParameterListOwner typeParameterListOwner = null == psiMethod ? psiClass : psiMethod;
+    final LombokLightClassBuilder builderClass = createBuilderClass(psiClass, typeParameterListOwner, builderDescriptor.getBuilderClassName(), psiAnnotation);
+    builderClass.withConstructors(new Computable<Collection<PsiMethod>>() {
+      @Override
+      public Collection<PsiMethod> compute() {
+        return createConstructors(builderClass, psiAnnotation);
+      }
+    });
+    builderClass.withFields(new Computable<Collection<PsiField>>() {
+      @Override
+      public Collection<PsiField> compute() {
+        return null == psiMethod ? createFields(psiClass) : createFields(psiMethod);
+      }
+    });
+    builderClass.withMethods(new Computable<Collection<PsiMethod>>() {
+      @Override
+      public Collection<PsiMethod> compute() {
+        return createMethods(builderDescriptor, builderClass, Arrays.asList(builderClass.getFields()));
+      }
+    });
 
     return builderClass;
   }
 
   @NotNull
-  public PsiClass createBuilderClass(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation) {
-    final PsiType psiBuilderType = getBuilderType(psiClass);
-    final String builderClassName = getBuilderClassName(psiClass, psiAnnotation, psiBuilderType);
-
-    LombokLightClassBuilder builderClass = createBuilderClass(psiClass, psiClass, builderClassName, psiAnnotation);
-    builderClass.withConstructors(createConstructors(builderClass, psiAnnotation));
-
-    final Collection<PsiField> builderFields = createFields(psiClass);
-    builderClass.withFields(builderFields);
-    builderClass.withMethods(createMethods(psiClass, null, builderClass, psiBuilderType, psiAnnotation, builderFields));
-
-    return builderClass;
+  public Collection<PsiMethod> createMethods(@NotNull BuilderDescriptor builderDescriptor, @NotNull PsiClass psiBuilderClass, @NotNull Collection<PsiField> fields) {
+    return createMethods(builderDescriptor.getPsiClass(), builderDescriptor.getPsiMethod(), psiBuilderClass,
+        builderDescriptor.getBuilderType(), builderDescriptor.getAnnotation(), fields);
   }
 
   @NotNull
@@ -379,7 +385,7 @@ public class BuilderHandler {
         createMethod &= !existedMethodNames.contains(psiField.getName());
       }
       if (createMethod) {
-        final PsiCodeBlock psiCodeBlock = PsiMethodUtil.createCodeBlockFromText(
+        final Computable<PsiCodeBlock> psiCodeBlock = PsiMethodUtil.createLazyCodeBlockFromText(
             String.format(codeBlockFormat, psiFieldName, psiFieldName), innerClass);
 
         methods.add(new LombokLightMethodBuilder(psiField.getManager(), createSetterName(psiFieldName, fluentBuilder))
@@ -415,7 +421,7 @@ public class BuilderHandler {
 
     final String callParameterText = joinParameters(builderClass.getFields());
 
-    final PsiCodeBlock psiCodeBlock = PsiMethodUtil.createCodeBlockFromText(
+    final Computable<PsiCodeBlock> psiCodeBlock = PsiMethodUtil.createLazyCodeBlockFromText(
         String.format(codeBlockFormat, callExpressionText, callParameterText),
         builderClass);
 
@@ -1,12 +1,12 @@
 package de.plushnikov.intellij.plugin.processor.handler;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
@@ -19,26 +19,39 @@ import com.intellij.psi.PsiSubstitutor;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeParameter;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiUtil;
 import com.intellij.psi.util.TypeConversionUtil;
+import de.plushnikov.intellij.plugin.lombokconfig.ConfigChangeTracker;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
+import de.plushnikov.intellij.plugin.settings.ProcessorSettingsChangeTracker;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiElementUtil;
 import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Handler for Delegate annotation processing, for fields and for methods
  */
 public class DelegateHandler {
+  private static final Key<CachedValue<ConcurrentMap<PsiSubstitutor, Map<String, Pair<PsiMethod, PsiSubstitutor>>>>> DELEGATABLE_METHODS_KEY =
+      Key.create("lombok.delegatable.methods");
 
   public boolean validate(@NotNull PsiModifierListOwner psiModifierListOwner, @NotNull PsiType psiType, @NotNull PsiAnnotation psiAnnotation, @NotNull ProblemBuilder builder) {
     boolean result = true;
@@ -92,19 +105,15 @@ public class DelegateHandler {
 
   public <T extends PsiMember & PsiNamedElement> void generateElements(@NotNull T psiElement, @NotNull PsiType psiElementType, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
     final Project project = psiElement.getProject();
-    final PsiManager manager = psiElement.getContainingFile().getManager();
 
-    final Collection<Pair<PsiMethod, PsiSubstitutor>> includesMethods = new HashSet<Pair<PsiMethod, PsiSubstitutor>>();
+    final Map<String, Pair<PsiMethod, PsiSubstitutor>> includesMethods = new LinkedHashMap<String, Pair<PsiMethod, PsiSubstitutor>>();
 
     final Collection<PsiType> types = collectDelegateTypes(psiAnnotation, psiElementType);
-    addMethodsOfTypes(types, includesMethods);
-
-    final Collection<Pair<PsiMethod, PsiSubstitutor>> excludeMethods = new HashSet<Pair<PsiMethod, PsiSubstitutor>>();
-    PsiClassType javaLangObjectType = PsiType.getJavaLangObject(manager, GlobalSearchScope.allScope(project));
-    addMethodsOfType(javaLangObjectType, excludeMethods);
+    addMethodsOfTypes(project, types, includesMethods);
 
+    final Map<String, Pair<PsiMethod, PsiSubstitutor>> excludeMethods = new HashMap<String, Pair<PsiMethod, PsiSubstitutor>>();
     final Collection<PsiType> excludes = collectExcludeTypes(psiAnnotation);
-    addMethodsOfTypes(excludes, excludeMethods);
+    addMethodsOfTypes(project, excludes, excludeMethods);
 
     final Collection<Pair<PsiMethod, PsiSubstitutor>> methodsToDelegate = findMethodsToDelegate(includesMethods, excludeMethods);
     if (!methodsToDelegate.isEmpty()) {
@@ -117,40 +126,74 @@ public class DelegateHandler {
     }
   }
 
-
-  private void addMethodsOfTypes(Collection<PsiType> types, Collection<Pair<PsiMethod, PsiSubstitutor>> includesMethods) {
+  private void addMethodsOfTypes(@NotNull Project project, Collection<PsiType> types, Map<String, Pair<PsiMethod, PsiSubstitutor>> allMethods) {
     for (PsiType type : types) {
-      addMethodsOfType(type, includesMethods);
+      final PsiClassType.ClassResolveResult resolveResult = PsiUtil.resolveGenericsClassInType(type);
+      final PsiClass psiClass = resolveResult.getElement();
+      if (null != psiClass) {
+        for (Map.Entry<String, Pair<PsiMethod, PsiSubstitutor>> entry : getDelegatableMethods(project, psiClass, resolveResult.getSubstitutor()).entrySet()) {
+          if (!allMethods.containsKey(entry.getKey())) {
+            allMethods.put(entry.getKey(), entry.getValue());
+          }
+        }
+      }
     }
   }
 
-  private void addMethodsOfType(PsiType psiType, Collection<Pair<PsiMethod, PsiSubstitutor>> allMethods) {
-    final PsiClassType.ClassResolveResult resolveResult = PsiUtil.resolveGenericsClassInType(psiType);
+  /**
+   * Methods of the class and its supertypes without methods of java.lang.Object, keyed by their erased signature.
+   * Cached on the delegated class per substitutor and shared between all classes delegating to it.
+   * Lombok generated methods of the class depend on lombok.config and processor settings too
+   */
+  @NotNull
+  private Map<String, Pair<PsiMethod, PsiSubstitutor>> getDelegatableMethods(@NotNull final Project project, @NotNull PsiClass psiClass, @NotNull PsiSubstitutor psiSubstitutor) {
+    final ConcurrentMap<PsiSubstitutor, Map<String, Pair<PsiMethod, PsiSubstitutor>>> delegatableMethods =
+        CachedValuesManager.getManager(project).getCachedValue(psiClass, DELEGATABLE_METHODS_KEY,
+            new CachedValueProvider<ConcurrentMap<PsiSubstitutor, Map<String, Pair<PsiMethod, PsiSubstitutor>>>>() {
+              @Nullable
+              @Override
+              public Result<ConcurrentMap<PsiSubstitutor, Map<String, Pair<PsiMethod, PsiSubstitutor>>>> compute() {
+                return Result.<ConcurrentMap<PsiSubstitutor, Map<String, Pair<PsiMethod, PsiSubstitutor>>>>create(
+                    new ConcurrentHashMap<PsiSubstitutor, Map<String, Pair<PsiMethod, PsiSubstitutor>>>(),
+                    PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT, ConfigChangeTracker.getInstance(), ProcessorSettingsChangeTracker.getInstance());
+              }
+            }, false);
+
+    Map<String, Pair<PsiMethod, PsiSubstitutor>> result = delegatableMethods.get(psiSubstitutor);
+    if (null == result) {
+      final Map<String, Pair<PsiMethod, PsiSubstitutor>> allMethods = new LinkedHashMap<String, Pair<PsiMethod, PsiSubstitutor>>();
+      collectAllMethods(allMethods, psiClass, psiSubstitutor);
+
+      final PsiClassType javaLangObjectType = PsiType.getJavaLangObject(psiClass.getManager(), GlobalSearchScope.allScope(project));
+      final PsiClass javaLangObjectClass = javaLangObjectType.resolve();
+      if (null != javaLangObjectClass) {
+        final Map<String, Pair<PsiMethod, PsiSubstitutor>> objectMethods = new HashMap<String, Pair<PsiMethod, PsiSubstitutor>>();
+        collectAllMethods(objectMethods, javaLangObjectClass, PsiSubstitutor.EMPTY);
+        allMethods.keySet().removeAll(objectMethods.keySet());
+      }
 
-    final PsiClass psiClass = resolveResult.getElement();
-    if (null != psiClass) {
-      collectAllMethods(allMethods, psiClass, resolveResult.getSubstitutor());
+      result = Collections.unmodifiableMap(allMethods);
+      final Map<String, Pair<PsiMethod, PsiSubstitutor>> previousResult = delegatableMethods.putIfAbsent(psiSubstitutor, result);
+      if (null != previousResult) {
+        result = previousResult;
+      }
     }
+    return result;
   }
 
-  private void collectAllMethods(Collection<Pair<PsiMethod, PsiSubstitutor>> allMethods, @NotNull PsiClass psiStartClass, @NotNull PsiSubstitutor classSubstitutor) {
+  /**
+   * Collects all public instance methods of the class and its supertypes,
+   * methods are deduplicated by their erased signature, first found method wins
+   */
+  private void collectAllMethods(Map<String, Pair<PsiMethod, PsiSubstitutor>> allMethods, @NotNull PsiClass psiStartClass, @NotNull PsiSubstitutor classSubstitutor) {
     PsiClass psiClass = psiStartClass;
     while (null != psiClass) {
       PsiMethod[] psiMethods = psiClass.getMethods();
       for (PsiMethod psiMethod : psiMethods) {
         if (!psiMethod.isConstructor() && psiMethod.hasModifierProperty(PsiModifier.PUBLIC) && !psiMethod.hasModifierProperty(PsiModifier.STATIC)) {
-
-          Pair<PsiMethod, PsiSubstitutor> newMethodSubstitutorPair = new Pair<PsiMethod, PsiSubstitutor>(psiMethod, classSubstitutor);
-
-          boolean acceptMethod = true;
-          for (Pair<PsiMethod, PsiSubstitutor> uniquePair : allMethods) {
-            if (PsiElementUtil.methodMatches(newMethodSubstitutorPair, uniquePair)) {
-              acceptMethod = false;
-              break;
-            }
-          }
-          if (acceptMethod) {
-            allMethods.add(newMethodSubstitutorPair);
+          final String signatureKey = PsiElementUtil.getErasedSignatureKey(psiMethod, classSubstitutor);
+          if (!allMethods.containsKey(signatureKey)) {
+            allMethods.put(signatureKey, new Pair<PsiMethod, PsiSubstitutor>(psiMethod, classSubstitutor));
           }
         }
       }
@@ -165,18 +208,11 @@ public class DelegateHandler {
     }
   }
 
-  private Collection<Pair<PsiMethod, PsiSubstitutor>> findMethodsToDelegate(Collection<Pair<PsiMethod, PsiSubstitutor>> includesMethods, Collection<Pair<PsiMethod, PsiSubstitutor>> excludeMethods) {
+  private Collection<Pair<PsiMethod, PsiSubstitutor>> findMethodsToDelegate(Map<String, Pair<PsiMethod, PsiSubstitutor>> includesMethods, Map<String, Pair<PsiMethod, PsiSubstitutor>> excludeMethods) {
     final Collection<Pair<PsiMethod, PsiSubstitutor>> result = new ArrayList<Pair<PsiMethod, PsiSubstitutor>>();
-    for (Pair<PsiMethod, PsiSubstitutor> includesMethodPair : includesMethods) {
-      boolean acceptMethod = true;
-      for (Pair<PsiMethod, PsiSubstitutor> excludeMethodPair : excludeMethods) {
-        if (PsiElementUtil.methodMatches(includesMethodPair, excludeMethodPair)) {
-          acceptMethod = false;
-          break;
-        }
-      }
-      if (acceptMethod) {
-        result.add(includesMethodPair);
+    for (Map.Entry<String, Pair<PsiMethod, PsiSubstitutor>> includesMethodEntry : includesMethods.entrySet()) {
+      if (!excludeMethods.containsKey(includesMethodEntry.getKey())) {
+        result.add(includesMethodEntry.getValue());
       }
     }
     return result;
@@ -219,7 +255,7 @@ public class DelegateHandler {
       paramString.deleteCharAt(paramString.length() - 1);
     }
     final boolean isMethodCall = psiElement instanceof PsiMethod;
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(
+    methodBuilder.withBody(PsiMethodUtil.createLazyCodeBlockFromText(
         String.format("%sthis.%s%s.%s(%s);",
             PsiType.VOID.equals(returnType) ? "" : "return ",
             psiElement.getName(),
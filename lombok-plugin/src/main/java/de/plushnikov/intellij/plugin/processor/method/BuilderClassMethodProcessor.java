@@ -5,6 +5,7 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.processor.handler.BuilderDescriptor;
 import de.plushnikov.intellij.plugin.processor.handler.BuilderHandler;
 import lombok.Builder;
 import org.jetbrains.annotations.NotNull;
@@ -39,8 +40,9 @@ public class BuilderClassMethodProcessor extends AbstractMethodProcessor {
   protected void processIntern(@NotNull PsiMethod psiMethod, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
     final PsiClass psiClass = psiMethod.getContainingClass();
     if (null != psiClass) {
-      if (builderHandler.existInnerClass(psiClass, psiMethod, psiAnnotation)) {
-        target.add(builderHandler.createBuilderClass(psiClass, psiMethod, psiAnnotation));
+      final BuilderDescriptor builderDescriptor = BuilderDescriptor.findByAnnotation(psiClass, psiAnnotation);
+      if (null != builderDescriptor && null == builderHandler.findInnerBuilderClass(builderDescriptor)) {
+        target.add(builderHandler.createBuilderClass(builderDescriptor));
       }
     }
   }
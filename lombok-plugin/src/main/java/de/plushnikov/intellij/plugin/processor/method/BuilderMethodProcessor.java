@@ -4,10 +4,9 @@ import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
+import de.plushnikov.intellij.plugin.processor.handler.BuilderDescriptor;
 import de.plushnikov.intellij.plugin.processor.handler.BuilderHandler;
-import de.plushnikov.intellij.plugin.util.PsiClassUtil;
 import lombok.Builder;
 import org.jetbrains.annotations.NotNull;
 
@@ -40,14 +39,11 @@ public class BuilderMethodProcessor extends AbstractMethodProcessor {
 
   protected void processIntern(@NotNull PsiMethod psiMethod, @NotNull PsiAnnotation psiAnnotation, @NotNull List<? super PsiElement> target) {
     final PsiClass psiClass = psiMethod.getContainingClass();
-    if (null != psiClass) {
-
-      final PsiType psiBuilderType = builderHandler.getBuilderType(psiClass, psiMethod);
-
-      final String builderClassName = builderHandler.getBuilderClassName(psiClass, psiAnnotation, psiBuilderType);
-      PsiClass builderClass = PsiClassUtil.getInnerClassInternByName(psiClass, builderClassName);
+    final BuilderDescriptor builderDescriptor = null == psiClass ? null : BuilderDescriptor.findByAnnotation(psiClass, psiAnnotation);
+    if (null != builderDescriptor) {
+      PsiClass builderClass = builderHandler.findInnerBuilderClass(builderDescriptor);
       if (null == builderClass) {
-        builderClass = builderHandler.createBuilderClass(psiClass, psiMethod, psiAnnotation);
+        builderClass = builderHandler.createBuilderClass(builderDescriptor);
       }
       target.add(builderHandler.createBuilderMethod(psiClass, psiMethod, builderClass, psiAnnotation));
     }
@@ -1,11 +1,17 @@
 package de.plushnikov.intellij.plugin.provider;
 
 import com.intellij.openapi.diagnostic.Logger;
-import com.intellij.openapi.fileEditor.FileEditorManager;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.RecursionGuard;
+import com.intellij.openapi.util.RecursionManager;
+import com.intellij.openapi.util.UserDataHolderEx;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
@@ -13,10 +19,19 @@ import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeElement;
 import com.intellij.psi.augment.PsiAugmentProvider;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.reference.SoftReference;
 import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
-import de.plushnikov.intellij.plugin.extension.UserMapKeys;
+import de.plushnikov.intellij.plugin.extension.LombokAnnotatedFileIndex;
+import de.plushnikov.intellij.plugin.lombokconfig.ConfigChangeTracker;
+import de.plushnikov.intellij.plugin.processor.LombokProcessorManager;
 import de.plushnikov.intellij.plugin.processor.Processor;
 import de.plushnikov.intellij.plugin.processor.ValProcessor;
+import de.plushnikov.intellij.plugin.psi.LombokLightElementReuse;
+import de.plushnikov.intellij.plugin.settings.ProcessorSettingsChangeTracker;
 import de.plushnikov.intellij.plugin.settings.ProjectSettings;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
@@ -29,7 +44,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Provides support for lombok generated elements
@@ -39,12 +56,12 @@ import java.util.Set;
 public class LombokAugmentProvider extends PsiAugmentProvider {
   private static final Logger log = Logger.getInstance(LombokAugmentProvider.class.getName());
 
-  private final static ThreadLocal<Set<AugmentCallData>> recursionBreaker = new ThreadLocal<Set<AugmentCallData>>() {
-    @Override
-    protected Set<AugmentCallData> initialValue() {
-      return new HashSet<AugmentCallData>();
-    }
-  };
+  private static final RecursionGuard recursionGuard = RecursionManager.createGuard("lombok.augment");
+
+  private static final Key<CachedValue<Boolean>> LOMBOK_ANNOTATED_FILE_KEY = Key.create("lombok.annotated.file");
+  private static final ConcurrentMap<Class, Key<CachedValue<List<PsiElement>>>> augmentCacheKeys = new ConcurrentHashMap<Class, Key<CachedValue<List<PsiElement>>>>();
+  private static final AtomicLong augmentCacheRequestCount = new AtomicLong();
+  private static final AtomicLong augmentCacheMissCount = new AtomicLong();
 
   private Collection<String> registeredAnnotationNames;
   private ValProcessor valProcessor;
@@ -56,7 +73,7 @@ public class LombokAugmentProvider extends PsiAugmentProvider {
 
   @NotNull
   @Override
-  public <Psi extends PsiElement> List<Psi> getAugments(@NotNull PsiElement element, @NotNull Class<Psi> type) {
+  public <Psi extends PsiElement> List<Psi> getAugments(@NotNull PsiElement element, @NotNull final Class<Psi> type) {
     final List<Psi> emptyResult = Collections.emptyList();
     // skip processing during index rebuild
     final Project project = element.getProject();
@@ -77,44 +94,50 @@ public class LombokAugmentProvider extends PsiAugmentProvider {
       return emptyResult;
     }
 
-    initRegisteredAnnotations();
-
-    final AugmentCallData currentAugmentData = new AugmentCallData(element, type);
-    if (recursionBreaker.get().contains(currentAugmentData)) {
+    final PsiClass psiClass = (PsiClass) element;
+    final List<Psi> result = recursionGuard.doPreventingRecursion(new AugmentCallData(element, type), false, new Computable<List<Psi>>() {
+      @Override
+      public List<Psi> compute() {
+        if (checkLombokPresent(project, psiClass)) {
+          return getCachedAugments(type, project, psiClass);
+        }
+        return Collections.emptyList();
+      }
+    });
+    if (null == result) {
       log.debug("Prevented recursion call");
       return emptyResult;
     }
+    return result;
+  }
 
-    recursionBreaker.get().add(currentAugmentData);
-    try {
-      final PsiClass psiClass = (PsiClass) element;
-
-      boolean fileOpenInEditor = true;
-      final PsiFile containingFile = psiClass.getContainingFile();
-      if (null != containingFile) {
-        final VirtualFile virtualFile = containingFile.getVirtualFile();
-        if (null != virtualFile) {
-          fileOpenInEditor = FileEditorManager.getInstance(project).isFileOpen(virtualFile);
-        }
-      }
-
-      if (fileOpenInEditor || checkLombokPresent(psiClass)) {
-        return process(type, project, psiClass);
-      }
-    } finally {
-      recursionBreaker.get().remove(currentAugmentData);
+  private boolean checkLombokPresent(@NotNull Project project, @NotNull PsiClass psiClass) {
+    // lombok annotations are retained in source code only
+    if (psiClass instanceof PsiCompiledElement) {
+      return false;
     }
-
-    return emptyResult;
+    final PsiFile containingFile = psiClass.getContainingFile();
+    final VirtualFile virtualFile = null == containingFile ? null : containingFile.getVirtualFile();
+    if (null != virtualFile && containingFile.isPhysical()) {
+      return isLombokAnnotatedFile(project, containingFile, virtualFile);
+    }
+    // classes without physical file (light classes, code fragments) are not indexed
+    initRegisteredAnnotations();
+    return verifyLombokAnnotationPresent(psiClass);
   }
 
-  private boolean checkLombokPresent(PsiClass psiClass) {
-    boolean result = UserMapKeys.isLombokPossiblePresent(psiClass);
-    if (result) {
-      result = verifyLombokAnnotationPresent(psiClass);
-    }
-    UserMapKeys.updateLombokPresent(psiClass, result);
-    return result;
+  /**
+   * Index lookup for the file, memoized until the next modification of the file
+   */
+  private static boolean isLombokAnnotatedFile(@NotNull final Project project, @NotNull final PsiFile psiFile, @NotNull final VirtualFile virtualFile) {
+    return CachedValuesManager.getManager(project).getCachedValue(psiFile, LOMBOK_ANNOTATED_FILE_KEY,
+        new CachedValueProvider<Boolean>() {
+          @Nullable
+          @Override
+          public Result<Boolean> compute() {
+            return Result.create(LombokAnnotatedFileIndex.containsLombokAnnotation(project, virtualFile), psiFile);
+          }
+        }, false);
   }
 
   @Nullable
@@ -139,15 +162,107 @@ public class LombokAugmentProvider extends PsiAugmentProvider {
     }
   }
 
-  private <Psi extends PsiElement> List<Psi> process(@NotNull Class<Psi> type, @NotNull Project project, @NotNull PsiClass psiClass) {
+  /**
+   * Returns augments for the psiClass and requested type from the cache, recalculates them if psiClass file, any lombok.config or processor settings were changed.
+   * Recalculated augments reuse unchanged elements of the previous calculation, so caches keyed on them stay valid
+   */
+  @SuppressWarnings("unchecked")
+  private <Psi extends PsiElement> List<Psi> getCachedAugments(@NotNull Class<Psi> type, @NotNull Project project, @NotNull PsiClass psiClass) {
+    final Key<CachedValue<List<PsiElement>>> cacheKey = getAugmentCacheKey(type);
+    CachedValue<List<PsiElement>> cachedValue = psiClass.getUserData(cacheKey);
+    if (null == cachedValue) {
+      cachedValue = CachedValuesManager.getManager(project).createCachedValue(new AugmentsProvider(type, project, psiClass), false);
+      if (psiClass instanceof UserDataHolderEx) {
+        // concurrent callers agree on one cached value
+        cachedValue = ((UserDataHolderEx) psiClass).putUserDataIfAbsent(cacheKey, cachedValue);
+      } else {
+        psiClass.putUserData(cacheKey, cachedValue);
+      }
+    }
+    augmentCacheRequestCount.incrementAndGet();
+    return (List<Psi>) cachedValue.getValue();
+  }
+
+  /**
+   * @return count of augment requests answered from the cache, since start of the IDE
+   */
+  public static long getAugmentCacheHitCount() {
+    return augmentCacheRequestCount.get() - augmentCacheMissCount.get();
+  }
+
+  /**
+   * @return count of augment requests, which had to calculate the augments, since start of the IDE
+   */
+  public static long getAugmentCacheMissCount() {
+    return augmentCacheMissCount.get();
+  }
+
+  /**
+   * Provider of the augments of one class and type. It keeps the last cacheable result softly referenced,
+   * so unchanged elements of it can be reused by the next calculation
+   */
+  private class AugmentsProvider implements CachedValueProvider<List<PsiElement>> {
+    private final Class<? extends PsiElement> type;
+    private final Project project;
+    private final PsiClass psiClass;
+    private volatile SoftReference<List<PsiElement>> previousAugments;
+
+    private AugmentsProvider(@NotNull Class<? extends PsiElement> type, @NotNull Project project, @NotNull PsiClass psiClass) {
+      this.type = type;
+      this.project = project;
+      this.psiClass = psiClass;
+    }
+
+    @Nullable
+    @Override
+    public Result<List<PsiElement>> compute() {
+      final long missCount = augmentCacheMissCount.incrementAndGet();
+      if (log.isDebugEnabled()) {
+        log.debug(String.format("Augments cache miss for type: %s class: %s (hits: %d, misses: %d)",
+            type, psiClass.getQualifiedName(), getAugmentCacheHitCount(), missCount));
+      }
+
+      final RecursionGuard.StackStamp stackStamp = recursionGuard.markStack();
+      final List<PsiElement> generatedAugments = process(type, project, psiClass);
+      final List<PsiElement> augments = Collections.unmodifiableList(
+          LombokLightElementReuse.reuse(SoftReference.dereference(previousAugments), generatedAugments));
+
+      if (!stackStamp.mayCacheNow()) {
+        // augments computed while a nested augment call was prevented are incomplete and must not be cached
+        return Result.create(augments, ModificationTracker.EVER_CHANGED);
+      }
+      previousAugments = new SoftReference<List<PsiElement>>(augments);
+
+      final Object fileDependency = null == psiClass.getContainingFile() ? PsiModificationTracker.MODIFICATION_COUNT : psiClass.getContainingFile();
+      // augments of @Delegate and @Builder depend also on other classes, so java structure changes have to be tracked too
+      return Result.create(augments, fileDependency, PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT,
+          ConfigChangeTracker.getInstance(), ProcessorSettingsChangeTracker.getInstance());
+    }
+  }
+
+  @NotNull
+  private static Key<CachedValue<List<PsiElement>>> getAugmentCacheKey(@NotNull Class<? extends PsiElement> type) {
+    Key<CachedValue<List<PsiElement>>> cacheKey = augmentCacheKeys.get(type);
+    if (null == cacheKey) {
+      cacheKey = Key.create("lombok.augments." + type.getName());
+      final Key<CachedValue<List<PsiElement>>> previousKey = augmentCacheKeys.putIfAbsent(type, cacheKey);
+      if (null != previousKey) {
+        cacheKey = previousKey;
+      }
+    }
+    return cacheKey;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<PsiElement> process(@NotNull Class<? extends PsiElement> type, @NotNull Project project, @NotNull PsiClass psiClass) {
     if (log.isDebugEnabled()) {
       log.debug(String.format("Process call for type: %s class: %s", type, psiClass.getQualifiedName()));
     }
 
-    final List<Psi> result = new ArrayList<Psi>();
-    for (Processor processor : LombokProcessorExtensionPoint.EP_NAME.getExtensions()) {
-      if (processor.canProduce(type) && processor.isEnabled(project)) {
-        result.addAll((Collection<Psi>) processor.process(psiClass));
+    final List<PsiElement> result = new ArrayList<PsiElement>();
+    for (Processor processor : LombokProcessorManager.getInstance().getApplicableProcessors(psiClass, type)) {
+      if (processor.isEnabled(project)) {
+        result.addAll((Collection<PsiElement>) processor.process(psiClass));
       }
     }
     return result;
@@ -2,11 +2,14 @@ package de.plushnikov.intellij.plugin.psi;
 
 import com.intellij.lang.java.JavaLanguage;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiIdentifier;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiTypeParameter;
@@ -20,12 +23,22 @@ import org.jetbrains.annotations.Nullable;
 import javax.swing.*;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Light class for generated classes (like builders). Constructors, fields and methods can be given as providers,
+ * which are computed only on first request of the corresponding members.
+ * All instances of a project share the same dummy delegate class.
+ */
 public class LombokLightClassBuilder extends LightClass {
+  private static final Key<PsiClass> DUMMY_DELEGATE_CLASS_KEY = Key.create("lombok.light.class.delegate");
+
+  private final String myName;
+  private final LombokLightIdentifier myNameIdentifier;
   private String myQualifiedName;
-  private PsiMethod[] myConstructors = new PsiMethod[0];
-  private PsiField[] myFields = new PsiField[0];
-  private PsiMethod[] myMethods = new PsiMethod[0];
+  private final LazyMembers<PsiMethod> myConstructors = new LazyMembers<PsiMethod>(PsiMethod.EMPTY_ARRAY);
+  private final LazyMembers<PsiField> myFields = new LazyMembers<PsiField>(PsiField.EMPTY_ARRAY);
+  private final LazyMembers<PsiMethod> myMethods = new LazyMembers<PsiMethod>(PsiMethod.EMPTY_ARRAY);
   private LombokLightModifierList myModifierList;
   private PsiClass myContainingClass;
   private PsiTypeParameterList myTypeParameterList;
@@ -33,12 +46,35 @@ public class LombokLightClassBuilder extends LightClass {
   private final Icon myBaseIcon;
 
   public LombokLightClassBuilder(@NotNull Project project, @NotNull String simpleName, @NotNull String qualifiedName) {
-    super(JavaPsiFacade.getElementFactory(project).createClass(simpleName));
+    super(getDummyDelegateClass(project));
+    myName = simpleName;
+    myNameIdentifier = new LombokLightIdentifier(getManager(), simpleName);
     myModifierList = new LombokLightModifierList(getManager(), JavaLanguage.INSTANCE);
     myBaseIcon = LombokIcons.CLASS_ICON;
     setQualifiedName(qualifiedName);
   }
 
+  @NotNull
+  private static PsiClass getDummyDelegateClass(@NotNull Project project) {
+    PsiClass result = project.getUserData(DUMMY_DELEGATE_CLASS_KEY);
+    if (null == result || !result.isValid()) {
+      result = JavaPsiFacade.getElementFactory(project).createClass("LombokLightClass");
+      project.putUserData(DUMMY_DELEGATE_CLASS_KEY, result);
+    }
+    return result;
+  }
+
+  @NotNull
+  @Override
+  public String getName() {
+    return myName;
+  }
+
+  @Override
+  public PsiIdentifier getNameIdentifier() {
+    return myNameIdentifier;
+  }
+
   @Nullable
   @Override
   public String getQualifiedName() {
@@ -52,34 +88,36 @@ public class LombokLightClassBuilder extends LightClass {
   @NotNull
   @Override
   public PsiMethod[] getConstructors() {
-    return myConstructors;
+    return myConstructors.get();
   }
 
   public void setConstructors(@NotNull PsiMethod[] constructors) {
-    myConstructors = constructors;
+    myConstructors.set(constructors);
   }
 
   @Override
   @NotNull
   public PsiField[] getFields() {
-    return myFields;
+    return myFields.get();
   }
 
   public void setFields(@NotNull PsiField[] fields) {
-    myFields = fields;
+    myFields.set(fields);
   }
 
   @NotNull
   @Override
   public PsiMethod[] getMethods() {
+    final PsiMethod[] methods = myMethods.get();
+    final PsiMethod[] constructors = getConstructors();
     // http://stackoverflow.com/a/784842/411905
-    PsiMethod[] result = Arrays.copyOf(myMethods, myMethods.length + myConstructors.length);
-    System.arraycopy(myConstructors, 0, result, myMethods.length, myConstructors.length);
+    PsiMethod[] result = Arrays.copyOf(methods, methods.length + constructors.length);
+    System.arraycopy(constructors, 0, result, methods.length, constructors.length);
     return result;
   }
 
   public void setMethods(@NotNull PsiMethod[] methods) {
-    myMethods = methods;
+    myMethods.set(methods);
   }
 
   @NotNull
@@ -196,6 +234,30 @@ public class LombokLightClassBuilder extends LightClass {
     return this;
   }
 
+  /**
+   * Fields are created by the provider on first request
+   */
+  public LombokLightClassBuilder withFields(@NotNull Computable<Collection<PsiField>> fieldsProvider) {
+    myFields.setProvider(fieldsProvider);
+    return this;
+  }
+
+  /**
+   * Methods are created by the provider on first request, the provider may request fields of this class
+   */
+  public LombokLightClassBuilder withMethods(@NotNull Computable<Collection<PsiMethod>> methodsProvider) {
+    myMethods.setProvider(methodsProvider);
+    return this;
+  }
+
+  /**
+   * Constructors are created by the provider on first request
+   */
+  public LombokLightClassBuilder withConstructors(@NotNull Computable<Collection<PsiMethod>> constructorsProvider) {
+    myConstructors.setProvider(constructorsProvider);
+    return this;
+  }
+
   public LombokLightClassBuilder withParameterTypes(@Nullable PsiTypeParameterList parameterList) {
     setTypeParameterList(parameterList);
     return this;
@@ -205,4 +267,44 @@ public class LombokLightClassBuilder extends LightClass {
     setNavigationElement(navigationElement);
     return this;
   }
+
+  /**
+   * Members given directly or by a provider. The provider is computed without holding any lock, because it may resolve
+   * members of other generated classes. The first computed result is published with compare-and-set,
+   * a concurrently computed result is dropped.
+   */
+  private static class LazyMembers<T> {
+    private final T[] myEmptyArray;
+    // either the members array or the provider of them
+    private final AtomicReference<Object> myState;
+
+    private LazyMembers(@NotNull T[] emptyArray) {
+      myEmptyArray = emptyArray;
+      myState = new AtomicReference<Object>(emptyArray);
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    T[] get() {
+      while (true) {
+        final Object state = myState.get();
+        if (!(state instanceof Computable)) {
+          return (T[]) state;
+        }
+        final Collection<T> members = ((Computable<Collection<T>>) state).compute();
+        final T[] result = members.toArray(myEmptyArray);
+        if (myState.compareAndSet(state, result)) {
+          return result;
+        }
+      }
+    }
+
+    void set(@NotNull T[] members) {
+      myState.set(members);
+    }
+
+    void setProvider(@NotNull Computable<Collection<T>> provider) {
+      myState.set(provider);
+    }
+  }
 }
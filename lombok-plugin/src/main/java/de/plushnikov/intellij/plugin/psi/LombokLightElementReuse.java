@@ -0,0 +1,203 @@
+package de.plushnikov.intellij.plugin.psi;
+
+import com.intellij.openapi.util.Comparing;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiTypeParameter;
+import com.intellij.psi.impl.light.LightModifierList;
+import com.intellij.util.ArrayUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps identity of generated light methods and fields across regenerations of the augments of a class.
+ * A previously generated element is reused, if it was generated from the same source element (annotation, field or method)
+ * and its signature, annotation texts (of the element and of its parameters), initializer and body text are still the same.
+ * Reused elements are never changed, methods with bodies of unknown text (computed by a provider) are not reused. Caches of the platform (resolve, type inference, structure view),
+ * which are keyed on generated elements, stay valid after modifications in unrelated parts of the file.
+ */
+public class LombokLightElementReuse {
+  private static final Comparator<String> NULL_SAFE_STRING_COMPARATOR = new Comparator<String>() {
+    @Override
+    public int compare(String o1, String o2) {
+      return String.valueOf(o1).compareTo(String.valueOf(o2));
+    }
+  };
+
+  private LombokLightElementReuse() {
+  }
+
+  /**
+   * @param previousElements elements generated by the previous run, may be null if there was none
+   * @param generatedElements freshly generated elements
+   * @return generated elements, where every element equal to a previous one is replaced by the previous instance
+   */
+  @NotNull
+  public static List<PsiElement> reuse(@Nullable List<PsiElement> previousElements, @NotNull List<PsiElement> generatedElements) {
+    if (null == previousElements || previousElements.isEmpty() || generatedElements.isEmpty()) {
+      return generatedElements;
+    }
+
+    final Map<String, List<PsiElement>> previousByName = new HashMap<String, List<PsiElement>>(previousElements.size());
+    for (PsiElement previousElement : previousElements) {
+      final String name = getReusableName(previousElement);
+      if (null != name) {
+        List<PsiElement> sameNamedElements = previousByName.get(name);
+        if (null == sameNamedElements) {
+          sameNamedElements = new ArrayList<PsiElement>(1);
+          previousByName.put(name, sameNamedElements);
+        }
+        sameNamedElements.add(previousElement);
+      }
+    }
+
+    final List<PsiElement> result = new ArrayList<PsiElement>(generatedElements.size());
+    for (PsiElement generatedElement : generatedElements) {
+      final String name = getReusableName(generatedElement);
+      final List<PsiElement> candidates = null == name ? null : previousByName.get(name);
+      final PsiElement previousElement = null == candidates ? null : findReusable(candidates, generatedElement);
+      if (null != previousElement) {
+        candidates.remove(previousElement);
+        result.add(previousElement);
+      } else {
+        result.add(generatedElement);
+      }
+    }
+    return result;
+  }
+
+  @Nullable
+  private static String getReusableName(@NotNull PsiElement psiElement) {
+    if (psiElement instanceof LombokLightMethodBuilder) {
+      return ((LombokLightMethodBuilder) psiElement).getName();
+    }
+    if (psiElement instanceof LombokLightFieldBuilder) {
+      return ((LombokLightFieldBuilder) psiElement).getName();
+    }
+    // generated classes compute their members lazily from other classes and are not reused
+    return null;
+  }
+
+  @Nullable
+  private static PsiElement findReusable(@NotNull List<PsiElement> candidates, @NotNull PsiElement generatedElement) {
+    for (PsiElement candidate : candidates) {
+      if (candidate.getClass() != generatedElement.getClass() || !isSameSource(candidate, generatedElement)) {
+        continue;
+      }
+      if (generatedElement instanceof LombokLightMethodBuilder) {
+        final LombokLightMethodBuilder previousMethod = (LombokLightMethodBuilder) candidate;
+        final LombokLightMethodBuilder generatedMethod = (LombokLightMethodBuilder) generatedElement;
+        if (isSameMethod(previousMethod, generatedMethod)) {
+          return previousMethod;
+        }
+      } else if (isSameField((LombokLightFieldBuilder) candidate, (LombokLightFieldBuilder) generatedElement)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isSameSource(@NotNull PsiElement previousElement, @NotNull PsiElement generatedElement) {
+    final PsiElement sourceElement = generatedElement.getNavigationElement();
+    return sourceElement != generatedElement && sourceElement == previousElement.getNavigationElement() && sourceElement.isValid();
+  }
+
+  private static boolean isSameMethod(@NotNull LombokLightMethodBuilder previousMethod, @NotNull LombokLightMethodBuilder generatedMethod) {
+    return isSameBody(previousMethod, generatedMethod) &&
+        previousMethod.isConstructor() == generatedMethod.isConstructor() &&
+        previousMethod.getContainingClass() == generatedMethod.getContainingClass() &&
+        previousMethod.buildMethodText().equals(generatedMethod.buildMethodText()) &&
+        Arrays.equals(getTypeParameterNames(previousMethod.getTypeParameters()), getTypeParameterNames(generatedMethod.getTypeParameters())) &&
+        Arrays.equals(getTypeTexts(previousMethod.getThrowsList().getReferencedTypes()), getTypeTexts(generatedMethod.getThrowsList().getReferencedTypes())) &&
+        Arrays.equals(getAnnotationTexts(previousMethod.getModifierList()), getAnnotationTexts(generatedMethod.getModifierList())) &&
+        isSameParameterAnnotations(previousMethod.getParameterList().getParameters(), generatedMethod.getParameterList().getParameters());
+  }
+
+  private static boolean isSameParameterAnnotations(@NotNull PsiParameter[] previousParameters, @NotNull PsiParameter[] generatedParameters) {
+    if (previousParameters.length != generatedParameters.length) {
+      return false;
+    }
+    for (int i = 0; i < previousParameters.length; i++) {
+      if (!Arrays.equals(getAnnotationTexts(previousParameters[i].getModifierList()), getAnnotationTexts(generatedParameters[i].getModifierList()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSameBody(@NotNull LombokLightMethodBuilder previousMethod, @NotNull LombokLightMethodBuilder generatedMethod) {
+    if (!previousMethod.hasBody() && !generatedMethod.hasBody()) {
+      return true;
+    }
+    final String previousBodyText = previousMethod.getBodyText();
+    return null != previousBodyText && previousBodyText.equals(generatedMethod.getBodyText());
+  }
+
+  private static boolean isSameField(@NotNull LombokLightFieldBuilder previousField, @NotNull LombokLightFieldBuilder generatedField) {
+    return previousField.getContainingClass() == generatedField.getContainingClass() &&
+        previousField.getType().getCanonicalText().equals(generatedField.getType().getCanonicalText()) &&
+        Arrays.equals(getModifiers(previousField.getModifierList()), getModifiers(generatedField.getModifierList())) &&
+        Arrays.equals(getAnnotationTexts(previousField.getModifierList()), getAnnotationTexts(generatedField.getModifierList())) &&
+        Comparing.equal(getInitializerText(previousField), getInitializerText(generatedField));
+  }
+
+  @Nullable
+  private static String getInitializerText(@NotNull PsiField psiField) {
+    final PsiExpression initializer = psiField.getInitializer();
+    return null == initializer ? null : initializer.getText();
+  }
+
+  @NotNull
+  private static String[] getModifiers(@Nullable PsiModifierList modifierList) {
+    if (!(modifierList instanceof LightModifierList)) {
+      return ArrayUtil.EMPTY_STRING_ARRAY;
+    }
+    final String[] result = ((LightModifierList) modifierList).getModifiers();
+    Arrays.sort(result);
+    return result;
+  }
+
+  @NotNull
+  private static String[] getTypeParameterNames(@NotNull PsiTypeParameter[] typeParameters) {
+    final String[] result = new String[typeParameters.length];
+    for (int i = 0; i < typeParameters.length; i++) {
+      result[i] = typeParameters[i].getName();
+    }
+    return result;
+  }
+
+  @NotNull
+  private static String[] getTypeTexts(@NotNull PsiClassType[] types) {
+    final String[] result = new String[types.length];
+    for (int i = 0; i < types.length; i++) {
+      result[i] = types[i].getCanonicalText();
+    }
+    return result;
+  }
+
+  /**
+   * Full text of the annotations, changed annotation parameters (like onMethod or onParam values) prevent reuse
+   */
+  @NotNull
+  private static String[] getAnnotationTexts(@Nullable PsiModifierList modifierList) {
+    final PsiAnnotation[] annotations = null == modifierList ? PsiAnnotation.EMPTY_ARRAY : modifierList.getAnnotations();
+    final String[] result = new String[annotations.length];
+    for (int i = 0; i < annotations.length; i++) {
+      result[i] = annotations[i].getText();
+    }
+    Arrays.sort(result, NULL_SAFE_STRING_COMPARATOR);
+    return result;
+  }
+}
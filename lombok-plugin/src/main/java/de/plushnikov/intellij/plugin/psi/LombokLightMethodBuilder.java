@@ -2,6 +2,9 @@ package de.plushnikov.intellij.plugin.psi;
 
 import com.intellij.lang.ASTNode;
 import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
@@ -14,34 +17,65 @@ import com.intellij.psi.PsiIdentifier;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiParameterList;
 import com.intellij.psi.PsiReferenceList;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeParameter;
 import com.intellij.psi.impl.CheckUtil;
 import com.intellij.psi.impl.light.LightMethodBuilder;
 import com.intellij.psi.impl.light.LightModifierList;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.ArrayUtil;
 import com.intellij.util.IncorrectOperationException;
 import com.intellij.util.StringBuilderSpinAllocator;
 import de.plushnikov.intellij.plugin.icon.LombokIcons;
+import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import de.plushnikov.intellij.plugin.util.ReflectionUtil;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * @author Plushnikov Michail
  */
 public class LombokLightMethodBuilder extends LightMethodBuilder {
-  private final LombokLightReferenceListBuilder myThrowsList;
-  private ASTNode myASTNode;
-  private PsiCodeBlock myBodyCodeBlock;
+  private static final Key<CachedValue<ConcurrentMap<String, PsiMethod>>> SIGNATURE_METHODS_KEY = Key.create("lombok.signature.methods");
 
+  private LombokLightModifierList myModifierList;
+  private LombokLightParameterListBuilder myParameterList;
+  private LombokLightReferenceListBuilder myThrowsList;
+  private LombokLightIdentifier myNameIdentifier;
+  private ASTNode myASTNode;
+  private volatile PsiCodeBlock myBodyCodeBlock;
+  private volatile Computable<PsiCodeBlock> myBodyProvider;
+  private String myBodyText;
+  // name given on creation, identifies the method in hash based collections also after renaming
+  private final String myCreationName;
+
+  /**
+   * Method starts with shared empty modifier, parameter and throws lists, they are copied on first modification only
+   */
   public LombokLightMethodBuilder(@NotNull PsiManager manager, @NotNull String name) {
-    super(manager, JavaLanguage.INSTANCE, name,
-        new LombokLightParameterListBuilder(manager, JavaLanguage.INSTANCE),
-        new LombokLightModifierList(manager, JavaLanguage.INSTANCE));
-    myThrowsList = new LombokLightReferenceListBuilder(manager, JavaLanguage.INSTANCE, PsiReferenceList.Role.THROWS_LIST);
+    this(manager, name, LombokLightSharedElements.getInstance(manager));
+  }
+
+  private LombokLightMethodBuilder(@NotNull PsiManager manager, @NotNull String name, @NotNull LombokLightSharedElements sharedElements) {
+    super(manager, JavaLanguage.INSTANCE, name, sharedElements.getEmptyParameterList(), sharedElements.getEmptyModifierList());
+    myCreationName = name;
+    myModifierList = sharedElements.getEmptyModifierList();
+    myParameterList = sharedElements.getEmptyParameterList();
+    myThrowsList = sharedElements.getEmptyThrowsList();
     setBaseIcon(LombokIcons.METHOD_ICON);
   }
 
@@ -76,16 +110,97 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
     return this;
   }
 
+  /**
+   * Adds annotation to the modifier list of the method, the modifier list is copied before, if it is a shared one
+   */
+  public LombokLightMethodBuilder withAnnotation(@NotNull String annotationText) {
+    if (LombokLightSharedElements.isShared(myModifierList)) {
+      myModifierList = new LombokLightModifierList(getManager(), JavaLanguage.INSTANCE, myModifierList.getModifiers());
+    }
+    myModifierList.addAnnotation(annotationText);
+    return this;
+  }
+
+  @Override
+  public LightMethodBuilder addModifier(@NotNull String modifier) {
+    if (LombokLightSharedElements.isShared(myModifierList)) {
+      final Set<String> modifiers = LombokLightSharedElements.getModifiers(myModifierList);
+      modifiers.add(modifier);
+      final LombokLightModifierList sharedModifierList = LombokLightSharedElements.getInstance(getManager()).findModifierList(modifiers);
+      myModifierList = null != sharedModifierList ? sharedModifierList :
+          new LombokLightModifierList(getManager(), JavaLanguage.INSTANCE, ArrayUtil.toStringArray(modifiers));
+    } else {
+      myModifierList.addModifier(modifier);
+    }
+    return this;
+  }
+
+  @Override
+  public LightMethodBuilder addModifiers(String... modifiers) {
+    for (String modifier : modifiers) {
+      addModifier(modifier);
+    }
+    return this;
+  }
+
+  @Override
+  public LightMethodBuilder setModifiers(String... modifiers) {
+    if (LombokLightSharedElements.isShared(myModifierList)) {
+      final Set<String> modifierSet = new HashSet<String>(Arrays.asList(modifiers));
+      final LombokLightModifierList sharedModifierList = LombokLightSharedElements.getInstance(getManager()).findModifierList(modifierSet);
+      myModifierList = null != sharedModifierList ? sharedModifierList :
+          new LombokLightModifierList(getManager(), JavaLanguage.INSTANCE, ArrayUtil.toStringArray(modifierSet));
+    } else {
+      myModifierList.clearModifiers();
+      addModifiers(modifiers);
+    }
+    return this;
+  }
+
+  @Override
+  @NotNull
+  public PsiModifierList getModifierList() {
+    return myModifierList;
+  }
+
+  @Override
+  public boolean hasModifierProperty(@NonNls @NotNull String name) {
+    return myModifierList.hasModifierProperty(name);
+  }
+
+  @Override
+  public LightMethodBuilder addParameter(@NotNull PsiParameter parameter) {
+    if (LombokLightSharedElements.isShared(myParameterList)) {
+      myParameterList = new LombokLightParameterListBuilder(getManager(), JavaLanguage.INSTANCE);
+    }
+    myParameterList.addParameter(parameter);
+    return this;
+  }
+
+  @Override
+  @NotNull
+  public PsiParameterList getParameterList() {
+    return myParameterList;
+  }
+
   public LightMethodBuilder addException(PsiClassType type) {
-    myThrowsList.addReference(type);
+    getOwnThrowsList().addReference(type);
     return this;
   }
 
   public LightMethodBuilder addException(String fqName) {
-    myThrowsList.addReference(fqName);
+    getOwnThrowsList().addReference(fqName);
     return this;
   }
 
+  @NotNull
+  private LombokLightReferenceListBuilder getOwnThrowsList() {
+    if (LombokLightSharedElements.isShared(myThrowsList)) {
+      myThrowsList = new LombokLightReferenceListBuilder(getManager(), JavaLanguage.INSTANCE, PsiReferenceList.Role.THROWS_LIST);
+    }
+    return myThrowsList;
+  }
+
   @Override
   @NotNull
   public PsiReferenceList getThrowsList() {
@@ -117,19 +232,61 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
     return this;
   }
 
-  public LombokLightMethodBuilder withBody(@NotNull PsiCodeBlock codeBlock) {
-    myBodyCodeBlock = codeBlock;
+  /**
+   * Body is created by the provider only on first request (for example by control flow or code generation),
+   * most generated methods are never asked for their body. The provider returns null, if its source elements are not valid anymore
+   */
+  public LombokLightMethodBuilder withBody(@NotNull Computable<PsiCodeBlock> bodyProvider) {
+    myBodyCodeBlock = null;
+    myBodyProvider = bodyProvider;
+    myBodyText = bodyProvider instanceof PsiMethodUtil.LazyCodeBlock ? ((PsiMethodUtil.LazyCodeBlock) bodyProvider).getBlockText() : null;
     return this;
   }
 
+  /**
+   * @return text of the body, if the body was given as text, or null if it is unknown
+   */
+  @Nullable
+  String getBodyText() {
+    return myBodyText;
+  }
+
+  /**
+   * @return true if the method has a body or a provider of it
+   */
+  boolean hasBody() {
+    return null != myBodyCodeBlock || null != myBodyProvider;
+  }
+
   @Override
   public PsiCodeBlock getBody() {
-    return myBodyCodeBlock;
+    PsiCodeBlock result = myBodyCodeBlock;
+    if (null == result) {
+      synchronized (this) {
+        // provider is read and cleared under the lock only, so a finished computation is always seen here
+        result = myBodyCodeBlock;
+        final Computable<PsiCodeBlock> bodyProvider = myBodyProvider;
+        if (null == result && null != bodyProvider) {
+          // provider returns null for invalid source elements, this is not remembered as the body
+          result = bodyProvider.compute();
+          if (null != result) {
+            myBodyCodeBlock = result;
+            myBodyProvider = null;
+          }
+        }
+      }
+    }
+    return result;
   }
 
   @Override
   public PsiIdentifier getNameIdentifier() {
-    return new LombokLightIdentifier(myManager, getName());
+    LombokLightIdentifier result = myNameIdentifier;
+    if (null == result) {
+      result = new LombokLightIdentifier(myManager, getName());
+      myNameIdentifier = result;
+    }
+    return result;
   }
 
   @Override
@@ -146,19 +303,18 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
     return containingClass != null ? containingClass.getContainingFile() : null;
   }
 
+  /**
+   * Text of the generated method is build from its signature, without parsing of it
+   */
   @Override
   public String getText() {
-    ASTNode node = getNode();
-    if (null != node) {
-      return node.getText();
-    }
-    return "";
+    return buildMethodText();
   }
 
   @Override
   public ASTNode getNode() {
     if (null == myASTNode) {
-      myASTNode = rebuildMethodFromString().getNode();
+      myASTNode = getSignatureMethod().getNode();
     }
     return myASTNode;
   }
@@ -169,7 +325,49 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
     return r == null ? TextRange.EMPTY_RANGE : r;
   }
 
-  private PsiMethod rebuildMethodFromString() {
+  /**
+   * Parsed representation of the method signature.
+   * Parsed methods are shared per containing class and signature text, so regenerated methods of the same class
+   * are parsed only once until the next java structure modification
+   */
+  @NotNull
+  private PsiMethod getSignatureMethod() {
+    final String methodText = buildMethodText();
+    final PsiClass containingClass = getContainingClass();
+    if (null == containingClass) {
+      return createMethodFromText(methodText, null);
+    }
+
+    final Project project = getManager().getProject();
+    final ConcurrentMap<String, PsiMethod> signatureMethods = CachedValuesManager.getManager(project).getCachedValue(containingClass, SIGNATURE_METHODS_KEY,
+        new CachedValueProvider<ConcurrentMap<String, PsiMethod>>() {
+          @Nullable
+          @Override
+          public Result<ConcurrentMap<String, PsiMethod>> compute() {
+            return Result.<ConcurrentMap<String, PsiMethod>>create(new ConcurrentHashMap<String, PsiMethod>(),
+                PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT);
+          }
+        }, false);
+
+    PsiMethod result = signatureMethods.get(methodText);
+    if (null == result) {
+      result = createMethodFromText(methodText, containingClass);
+      final PsiMethod previousResult = signatureMethods.putIfAbsent(methodText, result);
+      if (null != previousResult) {
+        result = previousResult;
+      }
+    }
+    return result;
+  }
+
+  @NotNull
+  private PsiMethod createMethodFromText(@NotNull String methodText, @Nullable PsiClass context) {
+    PsiElementFactory elementFactory = JavaPsiFacade.getInstance(getManager().getProject()).getElementFactory();
+    return elementFactory.createMethodFromText(methodText, context);
+  }
+
+  @NotNull
+  String buildMethodText() {
     final StringBuilder builder = StringBuilderSpinAllocator.alloc();
     try {
       builder.append(getAllModifierProperties((LightModifierList) getModifierList()));
@@ -187,9 +385,7 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
       }
       builder.append(')');
       builder.append('{').append("  ").append('}');
-
-      PsiElementFactory elementFactory = JavaPsiFacade.getInstance(getManager().getProject()).getElementFactory();
-      return elementFactory.createMethodFromText(builder.toString(), getContainingClass());
+      return builder.toString();
     } finally {
       StringBuilderSpinAllocator.dispose(builder);
     }
@@ -210,7 +406,7 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
   }
 
   public PsiElement copy() {
-    return rebuildMethodFromString();
+    return getSignatureMethod().copy();
   }
 
   public String toString() {
@@ -228,9 +424,17 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
     return null;
   }
 
+  /**
+   * Renames the method, but keeps its hashCode unchanged, because hashCode and equals use the name given on creation too:
+   * RenameJavaMethodProcessor#renameElement and fixNameCollisionsWithInnerClassMethod(...) rename methods,
+   * which are still stored as keys in hash based collections
+   */
   @Override
   public PsiElement setName(@NotNull String name) throws IncorrectOperationException {
     ReflectionUtil.setFinalFieldPerReflection(LightMethodBuilder.class, this, String.class, name);
+    if (null != myNameIdentifier) {
+      myNameIdentifier.setText(name);
+    }
     return this;
   }
 
@@ -245,7 +449,7 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
 
     LombokLightMethodBuilder that = (LombokLightMethodBuilder) o;
 
-    if (!getName().equals(that.getName())) {
+    if (!myCreationName.equals(that.myCreationName) || !getName().equals(that.getName())) {
       return false;
     }
     if (isConstructor() != that.isConstructor()) {
@@ -273,8 +477,13 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
 
   @Override
   public int hashCode() {
-    // should be constant because of RenameJavaMethodProcessor#renameElement and fixNameCollisionsWithInnerClassMethod(...)
-    return 1;
+    // name given on creation spreads generated accessors of a class over different buckets and survives setName(...)
+    final PsiClass containingClass = getContainingClass();
+    int result = myCreationName.hashCode();
+    result = 31 * result + (isConstructor() ? 1 : 0);
+    result = 31 * result + (null != containingClass ? containingClass.hashCode() : 0);
+    result = 31 * result + getParameterList().getParametersCount();
+    return result;
   }
 
   @Override
@@ -107,7 +107,8 @@ public class LombokLightModifierList extends LightModifierList {
     if (this == o) {
       return true;
     }
-    if (o == null || getClass() != o.getClass()) {
+    // shared instances are subclasses, they are equal to not shared ones with the same content
+    if (!(o instanceof LombokLightModifierList)) {
       return false;
     }
 
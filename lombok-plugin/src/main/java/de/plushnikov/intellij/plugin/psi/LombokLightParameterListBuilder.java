@@ -16,7 +16,8 @@ public class LombokLightParameterListBuilder extends LightParameterListBuilder {
     if (this == o) {
       return true;
     }
-    if (o == null || getClass() != o.getClass()) {
+    // shared instances are subclasses, they are equal to not shared ones with the same content
+    if (!(o instanceof LombokLightParameterListBuilder)) {
       return false;
     }
 
@@ -0,0 +1,169 @@
+package de.plushnikov.intellij.plugin.psi;
+
+import com.intellij.lang.Language;
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiReferenceList;
+import com.intellij.util.IncorrectOperationException;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable light elements shared by all generated methods of a project: modifier lists of the most common modifier sets,
+ * the empty parameter list and the empty throws list. Most generated getters, setters, withers and constructors don't need
+ * own instances of them. Generated methods replace a shared element by an own copy on first modification.
+ */
+public class LombokLightSharedElements {
+  private static final Key<LombokLightSharedElements> SHARED_ELEMENTS_KEY = Key.create("lombok.light.shared.elements");
+
+  private final LombokLightModifierList myEmptyModifierList;
+  private final LombokLightModifierList myPublicModifierList;
+  private final LombokLightModifierList myPublicStaticModifierList;
+  private final LombokLightParameterListBuilder myEmptyParameterList;
+  private final LombokLightReferenceListBuilder myEmptyThrowsList;
+
+  @NotNull
+  public static LombokLightSharedElements getInstance(@NotNull PsiManager manager) {
+    final Project project = manager.getProject();
+    LombokLightSharedElements result = project.getUserData(SHARED_ELEMENTS_KEY);
+    if (null == result) {
+      result = new LombokLightSharedElements(manager);
+      project.putUserData(SHARED_ELEMENTS_KEY, result);
+    }
+    return result;
+  }
+
+  private LombokLightSharedElements(@NotNull PsiManager manager) {
+    final Language language = JavaLanguage.INSTANCE;
+    myEmptyModifierList = new SharedModifierList(manager, language);
+    myPublicModifierList = new SharedModifierList(manager, language, PsiModifier.PUBLIC);
+    myPublicStaticModifierList = new SharedModifierList(manager, language, PsiModifier.PUBLIC, PsiModifier.STATIC);
+    myEmptyParameterList = new SharedParameterList(manager, language);
+    myEmptyThrowsList = new SharedReferenceList(manager, language, PsiReferenceList.Role.THROWS_LIST);
+  }
+
+  /**
+   * @return true if the element is one of the shared (immutable) elements
+   */
+  public static boolean isShared(@Nullable Object element) {
+    return element instanceof SharedModifierList || element instanceof SharedParameterList || element instanceof SharedReferenceList;
+  }
+
+  @NotNull
+  public LombokLightModifierList getEmptyModifierList() {
+    return myEmptyModifierList;
+  }
+
+  /**
+   * @return shared modifier list with exactly these modifiers, or null if there is none
+   */
+  @Nullable
+  public LombokLightModifierList findModifierList(@NotNull Collection<String> modifiers) {
+    if (modifiers.isEmpty()) {
+      return myEmptyModifierList;
+    }
+    if (modifiers.size() == 1 && modifiers.contains(PsiModifier.PUBLIC)) {
+      return myPublicModifierList;
+    }
+    if (modifiers.size() == 2 && modifiers.contains(PsiModifier.PUBLIC) && modifiers.contains(PsiModifier.STATIC)) {
+      return myPublicStaticModifierList;
+    }
+    return null;
+  }
+
+  @NotNull
+  public LombokLightParameterListBuilder getEmptyParameterList() {
+    return myEmptyParameterList;
+  }
+
+  @NotNull
+  public LombokLightReferenceListBuilder getEmptyThrowsList() {
+    return myEmptyThrowsList;
+  }
+
+  /**
+   * @return all modifiers of the list
+   */
+  @NotNull
+  public static Set<String> getModifiers(@NotNull LombokLightModifierList modifierList) {
+    return new HashSet<String>(Arrays.asList(modifierList.getModifiers()));
+  }
+
+  private static class SharedModifierList extends LombokLightModifierList {
+    private SharedModifierList(PsiManager manager, Language language, String... modifiers) {
+      super(manager, language, modifiers);
+    }
+
+    @Override
+    public void addModifier(@NotNull String modifier) {
+      throw new IncorrectOperationException("Shared modifier list can't be changed");
+    }
+
+    @Override
+    public void setModifierProperty(@PsiModifier.ModifierConstant @NotNull @NonNls String name, boolean value) throws IncorrectOperationException {
+      throw new IncorrectOperationException("Shared modifier list can't be changed");
+    }
+
+    @Override
+    public void clearModifiers() {
+      throw new IncorrectOperationException("Shared modifier list can't be changed");
+    }
+
+    @Override
+    public void copyModifiers(PsiModifierList modifierList) {
+      throw new IncorrectOperationException("Shared modifier list can't be changed");
+    }
+
+    @NotNull
+    @Override
+    public PsiAnnotation addAnnotation(@NotNull @NonNls String qualifiedName) {
+      throw new IncorrectOperationException("Shared modifier list can't be changed");
+    }
+  }
+
+  private static class SharedParameterList extends LombokLightParameterListBuilder {
+    private SharedParameterList(PsiManager manager, Language language) {
+      super(manager, language);
+    }
+
+    @Override
+    public void addParameter(PsiParameter parameter) {
+      throw new IncorrectOperationException("Shared parameter list can't be changed");
+    }
+  }
+
+  private static class SharedReferenceList extends LombokLightReferenceListBuilder {
+    private SharedReferenceList(PsiManager manager, Language language, Role role) {
+      super(manager, language, role);
+    }
+
+    @Override
+    public void addReference(PsiClass aClass) {
+      throw new IncorrectOperationException("Shared reference list can't be changed");
+    }
+
+    @Override
+    public void addReference(String qualifiedName) {
+      throw new IncorrectOperationException("Shared reference list can't be changed");
+    }
+
+    @Override
+    public void addReference(PsiClassType type) {
+      throw new IncorrectOperationException("Shared reference list can't be changed");
+    }
+  }
+}
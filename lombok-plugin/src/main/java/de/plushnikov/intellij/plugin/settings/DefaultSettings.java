@@ -2,4 +2,5 @@ package de.plushnikov.intellij.plugin.settings;
 
 public interface DefaultSettings {
   boolean PLUGIN_ENABLED_IN_PROJECT = true;
+  boolean PROCESSOR_ENABLED_IN_PROJECT = true;
 }
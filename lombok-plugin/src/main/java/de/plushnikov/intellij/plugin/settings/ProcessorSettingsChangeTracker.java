@@ -0,0 +1,31 @@
+package de.plushnikov.intellij.plugin.settings;
+
+import com.intellij.openapi.util.ModificationTracker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Modification tracker for enabling and disabling of lombok processors in project settings.
+ * Used as dependency for caches of augmented elements
+ */
+public class ProcessorSettingsChangeTracker implements ModificationTracker {
+  private static final ProcessorSettingsChangeTracker ourInstance = new ProcessorSettingsChangeTracker();
+
+  private final AtomicLong modificationCount = new AtomicLong();
+
+  public static ProcessorSettingsChangeTracker getInstance() {
+    return ourInstance;
+  }
+
+  private ProcessorSettingsChangeTracker() {
+  }
+
+  @Override
+  public long getModificationCount() {
+    return modificationCount.get();
+  }
+
+  public void incModificationCount() {
+    modificationCount.incrementAndGet();
+  }
+}
@@ -3,8 +3,16 @@ package de.plushnikov.intellij.plugin.settings;
 import com.intellij.ide.util.PropertiesComponent;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
+import de.plushnikov.intellij.plugin.extension.LombokProcessorExtensionPoint;
+import de.plushnikov.intellij.plugin.processor.Processor;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
 /**
  *
  */
@@ -12,6 +20,9 @@ public class ProjectSettings {
   private static final String       LOMBOK_PLUGIN_ENABLED_IN_PROJECT_PROPERTY = "LombokPluginEnabledInProject";
   private static final Key<Boolean> LOMBOK_ENABLED_KEY                        = Key.create(LOMBOK_PLUGIN_ENABLED_IN_PROJECT_PROPERTY);
 
+  private static final String           LOMBOK_PROCESSOR_ENABLED_PROPERTY_PREFIX = "LombokProcessorEnabledInProject.";
+  private static final Key<Set<String>> LOMBOK_DISABLED_PROCESSORS_KEY           = Key.create("LombokDisabledProcessorsInProject");
+
   public static boolean isEnabledInProject(@NotNull final Project project) {
     PropertiesComponent properties = PropertiesComponent.getInstance(project);
     return properties.getBoolean(LOMBOK_PLUGIN_ENABLED_IN_PROJECT_PROPERTY, DefaultSettings.PLUGIN_ENABLED_IN_PROJECT);
@@ -36,4 +47,51 @@ public class ProjectSettings {
     }
     return result;
   }
+
+  /**
+   * Returns qualified names of all annotations, processors of which can be enabled or disabled, in alphabetical order
+   */
+  @NotNull
+  public static SortedSet<String> getProcessorAnnotations() {
+    final SortedSet<String> result = new TreeSet<String>();
+    for (Processor processor : LombokProcessorExtensionPoint.EP_NAME.getExtensions()) {
+      result.add(processor.getSupportedAnnotation());
+    }
+    return result;
+  }
+
+  public static boolean isProcessorEnabledInProject(@NotNull final Project project, @NotNull String annotationName) {
+    PropertiesComponent properties = PropertiesComponent.getInstance(project);
+    return properties.getBoolean(LOMBOK_PROCESSOR_ENABLED_PROPERTY_PREFIX + annotationName, DefaultSettings.PROCESSOR_ENABLED_IN_PROJECT);
+  }
+
+  /**
+   * Enables or disables all processors of the annotation. Cached augments of all classes are dropped,
+   * the daemon has to be restarted by the caller after all settings are changed
+   */
+  public static void setProcessorEnabledInProject(@NotNull final Project project, @NotNull String annotationName, boolean value) {
+    PropertiesComponent properties = PropertiesComponent.getInstance(project);
+    properties.setValue(LOMBOK_PROCESSOR_ENABLED_PROPERTY_PREFIX + annotationName, String.valueOf(value));
+
+    project.putUserData(LOMBOK_DISABLED_PROCESSORS_KEY, null);
+    ProcessorSettingsChangeTracker.getInstance().incModificationCount();
+  }
+
+  /**
+   * Checks (without reading of the properties on every call) if processors of the annotation are enabled in the project
+   */
+  public static boolean loadAndGetProcessorEnabledInProject(@NotNull final Project project, @NotNull String annotationName) {
+    Set<String> disabledAnnotations = project.getUserData(LOMBOK_DISABLED_PROCESSORS_KEY);
+    if (null == disabledAnnotations) {
+      disabledAnnotations = new HashSet<String>();
+      for (String processorAnnotation : getProcessorAnnotations()) {
+        if (!isProcessorEnabledInProject(project, processorAnnotation)) {
+          disabledAnnotations.add(processorAnnotation);
+        }
+      }
+      disabledAnnotations = disabledAnnotations.isEmpty() ? Collections.<String>emptySet() : disabledAnnotations;
+      project.putUserData(LOMBOK_DISABLED_PROCESSORS_KEY, disabledAnnotations);
+    }
+    return !disabledAnnotations.contains(annotationName);
+  }
 }
@@ -1,19 +1,26 @@
 package de.plushnikov.intellij.plugin.settings;
 
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
 import com.intellij.openapi.options.Configurable;
 import com.intellij.openapi.options.ConfigurationException;
 import com.intellij.openapi.options.SearchableConfigurable;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
+import java.awt.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class ProjectSettingsPage implements SearchableConfigurable, Configurable.NoScroll {
 
   private JPanel myPanel;
   private JCheckBox myEnableLombokInProject;
+  private JPanel myProcessorsPanel;
+  private final Map<String, JCheckBox> myProcessorCheckBoxes = new LinkedHashMap<String, JCheckBox>();
 
   private Project myProject;
 
@@ -39,28 +46,60 @@ public class ProjectSettingsPage implements SearchableConfigurable, Configurable
 
   @Override
   public JComponent createComponent() {
-    myEnableLombokInProject.setSelected(ProjectSettings.isEnabledInProject(myProject));
+    myProcessorsPanel.setLayout(new GridLayout(0, 3));
+    myProcessorsPanel.removeAll();
+    myProcessorCheckBoxes.clear();
+    for (String annotationName : ProjectSettings.getProcessorAnnotations()) {
+      final JCheckBox checkBox = new JCheckBox("@" + StringUtil.trimStart(annotationName, "lombok."));
+      checkBox.setToolTipText(annotationName);
+      myProcessorCheckBoxes.put(annotationName, checkBox);
+      myProcessorsPanel.add(checkBox);
+    }
+    reset();
     return myPanel;
   }
 
   @Override
   public boolean isModified() {
-    return myEnableLombokInProject.isSelected() != ProjectSettings.isEnabledInProject(myProject);
+    if (myEnableLombokInProject.isSelected() != ProjectSettings.isEnabledInProject(myProject)) {
+      return true;
+    }
+    for (Map.Entry<String, JCheckBox> entry : myProcessorCheckBoxes.entrySet()) {
+      if (entry.getValue().isSelected() != ProjectSettings.isProcessorEnabledInProject(myProject, entry.getKey())) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
   public void apply() throws ConfigurationException {
     ProjectSettings.setEnabledInProject(myProject, myEnableLombokInProject.isSelected());
+
+    boolean processorsModified = false;
+    for (Map.Entry<String, JCheckBox> entry : myProcessorCheckBoxes.entrySet()) {
+      final boolean selected = entry.getValue().isSelected();
+      if (selected != ProjectSettings.isProcessorEnabledInProject(myProject, entry.getKey())) {
+        ProjectSettings.setProcessorEnabledInProject(myProject, entry.getKey(), selected);
+        processorsModified = true;
+      }
+    }
+    if (processorsModified) {
+      DaemonCodeAnalyzer.getInstance(myProject).restart();
+    }
   }
 
   @Override
   public void reset() {
     myEnableLombokInProject.setSelected(ProjectSettings.isEnabledInProject(myProject));
+    for (Map.Entry<String, JCheckBox> entry : myProcessorCheckBoxes.entrySet()) {
+      entry.getValue().setSelected(ProjectSettings.isProcessorEnabledInProject(myProject, entry.getKey()));
+    }
   }
 
   @Override
   public void disposeUIResources() {
-
+    myProcessorCheckBoxes.clear();
   }
 
   @NotNull
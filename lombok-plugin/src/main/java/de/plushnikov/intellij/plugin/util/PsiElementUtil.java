@@ -1,13 +1,22 @@
 package de.plushnikov.intellij.plugin.util;
 
+import com.intellij.openapi.util.Comparing;
 import com.intellij.openapi.util.Pair;
+import com.intellij.psi.PsiArrayType;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiEllipsisType;
 import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiParameterList;
+import com.intellij.psi.PsiPrimitiveType;
 import com.intellij.psi.PsiSubstitutor;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypeParameter;
+import com.intellij.psi.PsiWildcardType;
 import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.TypeConversionUtil;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -76,19 +85,99 @@ public class PsiElementUtil {
     return true;
   }
 
+  /**
+   * Checks if both types have the same canonical text, but walks the type structure
+   * (primitives, arrays, resolved classes, type arguments and wildcards) instead of rendering both types to strings.
+   * Falls back to text comparison only for unresolved and other exotic types.
+   */
   public static boolean typesAreEquivalent(
       @Nullable PsiType type1, @Nullable PsiType type2) {
-    if (type1 == null) {
-      return type2 == null;
+    if (type1 == type2) {
+      return true;
     }
-    if (type2 == null) {
+    if (type1 == null || type2 == null) {
       return false;
     }
+
+    if (type1 instanceof PsiPrimitiveType || type2 instanceof PsiPrimitiveType) {
+      return type1.equals(type2);
+    }
+    if (type1 instanceof PsiArrayType || type2 instanceof PsiArrayType) {
+      return type1 instanceof PsiArrayType && type2 instanceof PsiArrayType &&
+          (type1 instanceof PsiEllipsisType) == (type2 instanceof PsiEllipsisType) &&
+          typesAreEquivalent(((PsiArrayType) type1).getComponentType(), ((PsiArrayType) type2).getComponentType());
+    }
+    if (type1 instanceof PsiWildcardType && type2 instanceof PsiWildcardType) {
+      final PsiWildcardType wildcardType1 = (PsiWildcardType) type1;
+      final PsiWildcardType wildcardType2 = (PsiWildcardType) type2;
+      return wildcardType1.isExtends() == wildcardType2.isExtends() &&
+          wildcardType1.isSuper() == wildcardType2.isSuper() &&
+          typesAreEquivalent(wildcardType1.getBound(), wildcardType2.getBound());
+    }
+    if (type1 instanceof PsiClassType && type2 instanceof PsiClassType) {
+      final Boolean result = classTypesAreEquivalent((PsiClassType) type1, (PsiClassType) type2);
+      if (null != result) {
+        return result;
+      }
+    }
+
     final String type1Text = type1.getCanonicalText();
     final String type2Text = type2.getCanonicalText();
     return type1Text.equals(type2Text);
   }
 
+  /**
+   * @return result of the structural comparison or null if the types can not be compared without their text
+   */
+  @Nullable
+  private static Boolean classTypesAreEquivalent(@NotNull PsiClassType type1, @NotNull PsiClassType type2) {
+    if (type1.getParameterCount() != type2.getParameterCount()) {
+      return Boolean.FALSE;
+    }
+
+    final PsiClass class1 = type1.resolve();
+    final PsiClass class2 = type2.resolve();
+    if (null == class1 || null == class2 || hasOuterTypeArguments(class1) || hasOuterTypeArguments(class2)) {
+      return null;
+    }
+
+    if (class1 instanceof PsiTypeParameter || class2 instanceof PsiTypeParameter) {
+      if (!(class1 instanceof PsiTypeParameter && class2 instanceof PsiTypeParameter)) {
+        return null;
+      }
+      return Comparing.equal(class1.getName(), class2.getName());
+    }
+
+    final String qualifiedName1 = class1.getQualifiedName();
+    final String qualifiedName2 = class2.getQualifiedName();
+    if (null == qualifiedName1 || null == qualifiedName2) {
+      return null;
+    }
+    if (!qualifiedName1.equals(qualifiedName2)) {
+      return Boolean.FALSE;
+    }
+
+    final PsiType[] parameters1 = type1.getParameters();
+    final PsiType[] parameters2 = type2.getParameters();
+    if (parameters1.length != parameters2.length) {
+      return Boolean.FALSE;
+    }
+    for (int i = 0; i < parameters1.length; i++) {
+      if (!typesAreEquivalent(parameters1[i], parameters2[i])) {
+        return Boolean.FALSE;
+      }
+    }
+    return Boolean.TRUE;
+  }
+
+  /**
+   * Canonical text of inner (not static) classes of generic classes contains type arguments of the outer class too
+   */
+  private static boolean hasOuterTypeArguments(@NotNull PsiClass psiClass) {
+    final PsiClass containingClass = psiClass.getContainingClass();
+    return null != containingClass && !psiClass.hasModifierProperty(PsiModifier.STATIC) && containingClass.hasTypeParameters();
+  }
+
   public static boolean methodMatches(@NotNull Pair<PsiMethod, PsiSubstitutor> firstPair, @NotNull Pair<PsiMethod, PsiSubstitutor> secondPair) {
     final PsiMethod firstMethod = firstPair.getFirst();
     final PsiMethod secondMethod = secondPair.getFirst();
@@ -119,4 +208,22 @@ public class PsiElementUtil {
 
     return true;
   }
+
+  /**
+   * Builds a key of the method signature: method name and erasures of all (substituted) parameter types.
+   * Methods with equal keys have override-equivalent signatures, so they can be deduplicated by hashing
+   * instead of comparing them pairwise with {@link #methodMatches(Pair, Pair)}
+   */
+  @NotNull
+  public static String getErasedSignatureKey(@NotNull PsiMethod psiMethod, @NotNull PsiSubstitutor psiSubstitutor) {
+    final StringBuilder builder = new StringBuilder(psiMethod.getName()).append('(');
+    for (PsiParameter psiParameter : psiMethod.getParameterList().getParameters()) {
+      final PsiType parameterType = TypeConversionUtil.erasure(psiSubstitutor.substitute(psiParameter.getType()));
+      if (null != parameterType) {
+        builder.append(parameterType.getCanonicalText());
+      }
+      builder.append(',');
+    }
+    return builder.append(')').toString();
+  }
 }
@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.util;
 
+import com.intellij.openapi.util.Computable;
 import com.intellij.psi.CommonClassNames;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
@@ -12,8 +13,6 @@ import com.intellij.psi.PsiTypeParameterList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
-
 /**
  * @author Plushnikov Michail
  */
@@ -24,6 +23,41 @@ public class PsiMethodUtil {
     return elementFactory.createCodeBlockFromText("{" + blockText + "}", psiClass);
   }
 
+  /**
+   * Same as {@link #createCodeBlockFromText(String, PsiClass)}, but parsing is deferred until the body is requested
+   */
+  @NotNull
+  public static Computable<PsiCodeBlock> createLazyCodeBlockFromText(@NotNull String blockText, @NotNull PsiClass psiClass) {
+    return new LazyCodeBlock(blockText, psiClass);
+  }
+
+  /**
+   * Code block parsed on first computation, its text is known without parsing
+   */
+  public static class LazyCodeBlock implements Computable<PsiCodeBlock> {
+    private final String blockText;
+    private final PsiClass psiClass;
+
+    private LazyCodeBlock(@NotNull String blockText, @NotNull PsiClass psiClass) {
+      this.blockText = blockText;
+      this.psiClass = psiClass;
+    }
+
+    @NotNull
+    public String getBlockText() {
+      return blockText;
+    }
+
+    @Override
+    @Nullable
+    public PsiCodeBlock compute() {
+      if (!psiClass.isValid()) {
+        return null;
+      }
+      return createCodeBlockFromText(blockText, psiClass);
+    }
+  }
+
   @Nullable
   public static PsiTypeParameterList createTypeParameterList(@NotNull PsiTypeParameterList psiTypeParameterList) {
     PsiTypeParameter[] psiTypeParameters = psiTypeParameterList.getTypeParameters();
@@ -58,47 +92,4 @@ public class PsiMethodUtil {
     }
     return null;
   }
-
-
-  public static boolean hasMethodByName(@NotNull Collection<PsiMethod> classMethods, @NotNull String methodName) {
-    boolean hasMethod = false;
-    for (PsiMethod classMethod : classMethods) {
-      if (classMethod.getName().equals(methodName)) {
-        hasMethod = true;
-        break;
-      }
-    }
-    return hasMethod;
-  }
-
-  public static boolean hasMethodByName(@NotNull Collection<PsiMethod> classMethods, String... methodNames) {
-    boolean hasMethod = false;
-    for (String methodName : methodNames) {
-      if (hasMethodByName(classMethods, methodName)) {
-        hasMethod = true;
-        break;
-      }
-    }
-    return hasMethod;
-  }
-
-  public static boolean hasSimilarMethod(@NotNull Collection<PsiMethod> classMethods, @NotNull String methodName, int methodArgCount) {
-    for (PsiMethod classMethod : classMethods) {
-      if (isSimilarMethod(classMethod, methodName, methodArgCount)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
-  public static boolean isSimilarMethod(@NotNull PsiMethod classMethod, @NotNull String methodName, int methodArgCount) {
-    boolean equalNames = classMethod.getName().equalsIgnoreCase(methodName);
-
-    int parametersCount = classMethod.getParameterList().getParametersCount();
-    if (classMethod.isVarArgs()) {
-      parametersCount--;
-    }
-
-    return equalNames && methodArgCount == parametersCount;
-  }
 }
@@ -40,7 +40,7 @@ public class ParcelableMethodsProcessor extends AbstractClassProcessor {
     return new LombokLightMethodBuilder(psiClass.getManager(), "describeContents")
         .withModifier(PsiModifier.PUBLIC)
         .withMethodReturnType(PsiType.INT)
-        .withBody(PsiMethodUtil.createCodeBlockFromText("return 0;", psiClass))
+        .withBody(PsiMethodUtil.createLazyCodeBlockFromText("return 0;", psiClass))
         .withContainingClass(psiClass)
         .withNavigationElement(psiAnnotation);
   }
@@ -0,0 +1,48 @@
+package de.plushnikov.intellij.plugin.extension;
+
+import com.intellij.testFramework.fixtures.LightCodeInsightFixtureTestCase;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public class LombokBuilderClassIndexTest extends LightCodeInsightFixtureTestCase {
+
+  public void testBuilderOnClasses() {
+    assertBuilderClassNames("package foo.bar;\n" +
+            "import lombok.Builder;\n" +
+            "@Builder public class Outer {\n" +
+            "  @lombok.Builder(builderClassName = \"Creator\") static class Inner {}\n" +
+            "  @Builder interface Api {}\n" +
+            "}\n",
+        "foo.bar.Outer.OuterBuilder", "foo.bar.Outer.Inner.Creator", "foo.bar.Outer.Api.ApiBuilder");
+  }
+
+  public void testBuilderOnConstructorsAndMethods() {
+    assertBuilderClassNames("package foo;\n" +
+            "public class Owner {\n" +
+            "  @Builder Owner(int a) {}\n" +
+            "  @Builder public static <T extends Comparable<T>> java.util.Map.Entry<String, T> entry(T value) { return null; }\n" +
+            "  @Builder static void run() {}\n" +
+            "  @Builder static int count() { return 0; }\n" +
+            "  @Builder(toBuilder = true, builderClassName = \"Named\") static Owner named() { return null; }\n" +
+            "}\n",
+        "foo.Owner.OwnerBuilder", "foo.Owner.EntryBuilder", "foo.Owner.VoidBuilder", "foo.Owner.Named");
+  }
+
+  public void testIgnoresLocalAndAnonymousClassesAndLiterals() {
+    assertBuilderClassNames("public class Plain {\n" +
+            "  private Class<?> type = Plain.class;\n" +
+            "  private Runnable runnable = new Runnable() { @Builder class Anonymous {} public void run() {} };\n" +
+            "  void method() { @Builder class Local {} }\n" +
+            "  /* @Builder class Comment {} */\n" +
+            "  @Builder(builderClassName = \" \") class Blank {}\n" +
+            "}\n",
+        "Plain.Blank.BlankBuilder");
+  }
+
+  private void assertBuilderClassNames(String fileText, String... expectedNames) {
+    final Set<String> actualNames = LombokBuilderClassIndex.collectBuilderClassNames(fileText).keySet();
+    assertEquals(new HashSet<String>(Arrays.asList(expectedNames)), actualNames);
+  }
+}
@@ -0,0 +1,58 @@
+package de.plushnikov.intellij.plugin.extension;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Pins the description matchers to the regular expressions they replaced
+ */
+public class LombokHighlightErrorFilterTest {
+  private static final Pattern UNINITIALIZED_MESSAGE = Pattern.compile("Variable '.+' might not have been initialized");
+  private static final Pattern LOMBOK_ANYANNOTATIONREQUIRED = Pattern.compile("Incompatible types\\. Found: '__*', required: 'lombok.*AnyAnnotation\\[\\]'");
+
+  private static final String[] UNINITIALIZED_DESCRIPTIONS = {
+      "Variable 'field' might not have been initialized",
+      "Variable 'a' might not have been initialized",
+      "Variable ''' might not have been initialized",
+      "Variable '' might not have been initialized",
+      "Variable 'field' might not have been initialized!",
+      "variable 'field' might not have been initialized",
+      "Variable 'field' is never used",
+      "Variable '",
+      "' might not have been initialized",
+      "",
+  };
+
+  private static final String[] ANYANNOTATIONREQUIRED_DESCRIPTIONS = {
+      "Incompatible types. Found: '_', required: 'lombok.AllArgsConstructor.AnyAnnotation[]'",
+      "Incompatible types. Found: '__', required: 'lombok.Getter.AnyAnnotation[]'",
+      "Incompatible types. Found: '___', required: 'lombok.AnyAnnotation[]'",
+      "Incompatible types. Found: '_', required: 'lombokAnyAnnotation[]'",
+      "Incompatible types. Found: '_', required: 'lombok', required: 'lombokAnyAnnotation[]'",
+      "Incompatible types. Found: '', required: 'lombok.Getter.AnyAnnotation[]'",
+      "Incompatible types. Found: 'onMethod_', required: 'lombok.Getter.AnyAnnotation[]'",
+      "Incompatible types. Found: '_a_', required: 'lombok.Getter.AnyAnnotation[]'",
+      "Incompatible types. Found: '__', required: 'java.lang.annotation.Annotation[]'",
+      "Incompatible types. Found: '__', required: 'lombok.Getter.AnyAnnotation'",
+      "Incompatible types. Found: '__', required: 'lombok.Getter.AnyAnnotation[]'!",
+      "Incompatible types. Found: '",
+      "",
+  };
+
+  @Test
+  public void testUninitializedField() {
+    for (String description : UNINITIALIZED_DESCRIPTIONS) {
+      assertEquals(description, UNINITIALIZED_MESSAGE.matcher(description).matches(), LombokHighlightErrorFilter.uninitializedField(description));
+    }
+  }
+
+  @Test
+  public void testAnyAnnotationRequired() {
+    for (String description : ANYANNOTATIONREQUIRED_DESCRIPTIONS) {
+      assertEquals(description, LOMBOK_ANYANNOTATIONREQUIRED.matcher(description).matches(), LombokHighlightErrorFilter.anyAnnotationRequired(description));
+    }
+  }
+}
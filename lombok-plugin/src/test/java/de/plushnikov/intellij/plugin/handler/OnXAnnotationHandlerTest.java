@@ -0,0 +1,46 @@
+package de.plushnikov.intellij.plugin.handler;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Pins the underscore matchers to the regular expressions they replaced
+ */
+public class OnXAnnotationHandlerTest {
+  private static final Pattern UNDERSCORES = Pattern.compile("__*");
+  private static final Pattern CANNOT_RESOLVE_UNDERSCORES_MESSAGE = Pattern.compile("Cannot resolve symbol '__*'");
+
+  private static final String[] TEXTS = {"_", "__", "___", "", "onMethod_", "onConstructor", "_a", "a_", "__ ", " __"};
+
+  private static final String[] DESCRIPTIONS = {
+      "Cannot resolve symbol '_'",
+      "Cannot resolve symbol '__'",
+      "Cannot resolve symbol '___'",
+      "Cannot resolve symbol ''",
+      "Cannot resolve symbol 'onMethod_'",
+      "Cannot resolve symbol '_a_'",
+      "Cannot resolve symbol '__'!",
+      "Cannot resolve symbol '__",
+      "Cannot resolve method '__'",
+      "Cannot resolve symbol '",
+      "Cannot resolve symbol ''_'",
+      "",
+  };
+
+  @Test
+  public void testIsUnderscores() {
+    for (String text : TEXTS) {
+      assertEquals(text, UNDERSCORES.matcher(text).matches(), OnXAnnotationHandler.isUnderscores(text));
+    }
+  }
+
+  @Test
+  public void testIsCannotResolveUnderscores() {
+    for (String description : DESCRIPTIONS) {
+      assertEquals(description, CANNOT_RESOLVE_UNDERSCORES_MESSAGE.matcher(description).matches(), OnXAnnotationHandler.isCannotResolveUnderscores(description));
+    }
+  }
+}
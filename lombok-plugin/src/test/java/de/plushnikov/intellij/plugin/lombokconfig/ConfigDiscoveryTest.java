@@ -0,0 +1,67 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+public class ConfigDiscoveryTest extends LombokLightCodeInsightTestCase {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    // config snapshots are cached on the (reused) light project
+    ConfigChangeTracker.getInstance().incModificationCount();
+  }
+
+  public void testAccumulationAcrossTwoDirectoryLevels() {
+    myFixture.addFileToProject("accumulation/lombok.config", "lombok.accessors.prefix += m_\nlombok.accessors.prefix += f\n");
+    myFixture.addFileToProject("accumulation/child/lombok.config", "lombok.accessors.prefix += my\nlombok.accessors.prefix -= f\n");
+    final PsiClass parentClass = addClass("accumulation/Parent.java", "package accumulation; public class Parent {}");
+    final PsiClass childClass = addClass("accumulation/child/Child.java", "package accumulation.child; public class Child {}");
+
+    assertPrefixes(parentClass, "m_", "f");
+    assertPrefixes(childClass, "m_", "my");
+  }
+
+  public void testAssignmentReplacesParentValues() {
+    myFixture.addFileToProject("assignment/lombok.config", "lombok.accessors.prefix += m_\n");
+    myFixture.addFileToProject("assignment/child/lombok.config", "lombok.accessors.prefix = my\n# lombok.accessors.prefix += f\n");
+    final PsiClass childClass = addClass("assignment/child/Child.java", "package assignment.child; public class Child {}");
+
+    assertPrefixes(childClass, "my");
+  }
+
+  public void testClearInChild() {
+    myFixture.addFileToProject("clearing/lombok.config", "lombok.accessors.prefix += m_\nlombok.getter.noIsPrefix = true\n");
+    myFixture.addFileToProject("clearing/child/lombok.config", "clear lombok.accessors.prefix\n");
+    myFixture.addFileToProject("clearing/child/grandchild/lombok.config", "lombok.accessors.prefix += f\n");
+    final PsiClass childClass = addClass("clearing/child/Child.java", "package clearing.child; public class Child {}");
+    final PsiClass grandchildClass = addClass("clearing/child/grandchild/Grandchild.java", "package clearing.child.grandchild; public class Grandchild {}");
+
+    assertPrefixes(childClass);
+    assertPrefixes(grandchildClass, "f");
+    // other keys are still inherited
+    assertTrue(ConfigDiscovery.getInstance().getBooleanLombokConfigProperty(ConfigKeys.GETTER_NO_IS_PREFIX, grandchildClass));
+  }
+
+  public void testStopBubblingCutsTheWalk() {
+    myFixture.addFileToProject("bubbling/lombok.config", "lombok.accessors.prefix += m_\nlombok.getter.noIsPrefix = true\n");
+    myFixture.addFileToProject("bubbling/child/lombok.config", "config.stopBubbling = true\nlombok.accessors.prefix += f\n");
+    final PsiClass parentClass = addClass("bubbling/Parent.java", "package bubbling; public class Parent {}");
+    final PsiClass childClass = addClass("bubbling/child/Child.java", "package bubbling.child; public class Child {}");
+    final PsiClass grandchildClass = addClass("bubbling/child/grandchild/Grandchild.java", "package bubbling.child.grandchild; public class Grandchild {}");
+
+    assertPrefixes(parentClass, "m_");
+    assertPrefixes(childClass, "f");
+    assertPrefixes(grandchildClass, "f");
+    assertFalse(ConfigDiscovery.getInstance().getBooleanLombokConfigProperty(ConfigKeys.GETTER_NO_IS_PREFIX, childClass));
+  }
+
+  private PsiClass addClass(String path, String classText) {
+    return ((PsiJavaFile) myFixture.addFileToProject(path, classText)).getClasses()[0];
+  }
+
+  private void assertPrefixes(PsiClass psiClass, String... expectedPrefixes) {
+    assertOrderedEquals(ConfigDiscovery.getInstance().getMultipleValueLombokConfigProperty(ConfigKeys.ACCESSORS_PREFIX, psiClass), expectedPrefixes);
+  }
+}
@@ -0,0 +1,88 @@
+package de.plushnikov.intellij.plugin.psi;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import de.plushnikov.lombok.LombokLightCodeInsightTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class LombokLightMethodBuilderTest extends LombokLightCodeInsightTestCase {
+  private static final int FIELD_COUNT = 1000;
+
+  public void testAccessorsShareElements() {
+    final List<LombokLightMethodBuilder> methods = generateAccessors();
+    assertEquals(2 * FIELD_COUNT, methods.size());
+
+    final LombokLightSharedElements sharedElements = LombokLightSharedElements.getInstance(getPsiManager());
+    for (LombokLightMethodBuilder method : methods) {
+      assertSame(sharedElements.getEmptyThrowsList(), method.getThrowsList());
+      if (method.getName().startsWith("get")) {
+        assertTrue(LombokLightSharedElements.isShared(method.getModifierList()));
+        assertSame(sharedElements.getEmptyParameterList(), method.getParameterList());
+      }
+      assertSame(method.getNameIdentifier(), method.getNameIdentifier());
+    }
+  }
+
+  public void testSetModifiersCopiesSharedModifierList() {
+    final LombokLightSharedElements sharedElements = LombokLightSharedElements.getInstance(getPsiManager());
+    final LombokLightMethodBuilder method = new LombokLightMethodBuilder(getPsiManager(), "method");
+    method.setModifiers(PsiModifier.PUBLIC);
+    assertTrue(LombokLightSharedElements.isShared(method.getModifierList()));
+
+    method.setModifiers(PsiModifier.PRIVATE, PsiModifier.FINAL);
+    assertFalse(LombokLightSharedElements.isShared(method.getModifierList()));
+    assertTrue(method.hasModifierProperty(PsiModifier.PRIVATE));
+    assertTrue(method.hasModifierProperty(PsiModifier.FINAL));
+    assertFalse(sharedElements.getEmptyModifierList().hasModifierProperty(PsiModifier.PRIVATE));
+
+    method.addModifiers(PsiModifier.STATIC);
+    assertTrue(method.hasModifierProperty(PsiModifier.STATIC));
+  }
+
+  public void testAccessorsHaveDistinctHashCodes() {
+    final List<LombokLightMethodBuilder> methods = generateAccessors();
+
+    final Set<Integer> hashCodes = new HashSet<Integer>();
+    for (LombokLightMethodBuilder method : methods) {
+      hashCodes.add(method.hashCode());
+    }
+    assertEquals(methods.size(), hashCodes.size());
+  }
+
+  public void testRenameKeepsHashCode() {
+    final LombokLightMethodBuilder method = new LombokLightMethodBuilder(getPsiManager(), "getField");
+    final Set<LombokLightMethodBuilder> methods = new HashSet<LombokLightMethodBuilder>(Collections.singleton(method));
+
+    final int hashCode = method.hashCode();
+    method.setName("getRenamed");
+    assertEquals(hashCode, method.hashCode());
+    assertTrue(methods.contains(method));
+    assertFalse(method.equals(new LombokLightMethodBuilder(getPsiManager(), "getRenamed")));
+  }
+
+  private List<LombokLightMethodBuilder> generateAccessors() {
+    final StringBuilder classText = new StringBuilder("@lombok.Getter @lombok.Setter public class Synthetic {\n");
+    for (int i = 0; i < FIELD_COUNT; i++) {
+      classText.append("  private int field").append(i).append(";\n");
+    }
+    classText.append("}\n");
+
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.configureByText("Synthetic.java", classText.toString());
+    final PsiClass psiClass = psiFile.getClasses()[0];
+
+    final List<LombokLightMethodBuilder> result = new ArrayList<LombokLightMethodBuilder>();
+    for (PsiMethod psiMethod : psiClass.getMethods()) {
+      if (psiMethod instanceof LombokLightMethodBuilder) {
+        result.add((LombokLightMethodBuilder) psiMethod);
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+}
@@ -0,0 +1,98 @@
+package de.plushnikov.intellij.plugin.util;
+
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiEllipsisType;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiType;
+import com.intellij.testFramework.fixtures.LightCodeInsightFixtureTestCase;
+
+public class PsiElementUtilTest extends LightCodeInsightFixtureTestCase {
+
+  public void testPrimitiveAndArrayTypes() {
+    assertEquivalent("int", "int");
+    assertNotEquivalent("int", "long");
+    assertNotEquivalent("int", "java.lang.Integer");
+    assertEquivalent("java.lang.String[][]", "java.lang.String[][]");
+    assertNotEquivalent("java.lang.String[]", "java.lang.String[][]");
+    assertNotEquivalent("int[]", "java.lang.Integer[]");
+  }
+
+  public void testEllipsisTypes() {
+    final PsiType stringType = createType("java.lang.String");
+    assertTrue(PsiElementUtil.typesAreEquivalent(new PsiEllipsisType(stringType), new PsiEllipsisType(createType("java.lang.String"))));
+    assertFalse(PsiElementUtil.typesAreEquivalent(new PsiEllipsisType(stringType), stringType.createArrayType()));
+  }
+
+  public void testGenericTypes() {
+    assertEquivalent("java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>", "java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>");
+    assertNotEquivalent("java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>", "java.util.Map<java.lang.String, java.util.List<java.lang.Long>>");
+    assertNotEquivalent("java.util.List", "java.util.List<java.lang.String>");
+    assertNotEquivalent("java.util.List<java.lang.String>", "java.util.Set<java.lang.String>");
+    assertEquivalent("java.util.List<java.lang.String[]>", "java.util.List<java.lang.String[]>");
+  }
+
+  public void testWildcardTypes() {
+    assertEquivalent("java.util.List<? extends java.lang.Number>", "java.util.List<? extends java.lang.Number>");
+    assertNotEquivalent("java.util.List<? extends java.lang.Number>", "java.util.List<? super java.lang.Number>");
+    assertNotEquivalent("java.util.List<? extends java.lang.Number>", "java.util.List<? extends java.lang.Integer>");
+    assertEquivalent("java.util.List<?>", "java.util.List<?>");
+    assertNotEquivalent("java.util.List<?>", "java.util.List<? extends java.lang.Number>");
+    assertNotEquivalent("java.util.List<?>", "java.util.List<java.lang.Object>");
+  }
+
+  public void testTypeParameters() {
+    final PsiClass psiClass = createClass("class Generic<T, U> {}");
+    assertEquivalent("T", "T", psiClass);
+    assertNotEquivalent("T", "U", psiClass);
+    assertEquivalent("java.util.List<T>", "java.util.List<T>", psiClass);
+    assertNotEquivalent("java.util.List<T>", "java.util.List<U>", psiClass);
+  }
+
+  public void testOuterTypeArguments() {
+    final PsiClass psiClass = createClass("class Outer<T> { class Inner {} static class Nested {} }");
+    assertEquivalent("Outer<java.lang.String>.Inner", "Outer<java.lang.String>.Inner", psiClass);
+    assertNotEquivalent("Outer<java.lang.String>.Inner", "Outer<java.lang.Integer>.Inner", psiClass);
+    assertEquivalent("Outer.Nested", "Outer.Nested", psiClass);
+  }
+
+  public void testUnresolvedTypesFallBackToText() {
+    assertEquivalent("foo.Unknown", "foo.Unknown");
+    assertNotEquivalent("foo.Unknown", "foo.Other");
+    assertEquivalent("foo.Unknown<java.lang.String>", "foo.Unknown<java.lang.String>");
+    assertNotEquivalent("foo.Unknown<java.lang.String>", "foo.Unknown<java.lang.Integer>");
+    assertNotEquivalent("foo.Unknown", "java.lang.String");
+  }
+
+  private void assertEquivalent(String typeText1, String typeText2) {
+    assertEquivalent(typeText1, typeText2, null);
+  }
+
+  private void assertEquivalent(String typeText1, String typeText2, PsiElement context) {
+    assertTrue(PsiElementUtil.typesAreEquivalent(createType(typeText1, context), createType(typeText2, context)));
+  }
+
+  private void assertNotEquivalent(String typeText1, String typeText2) {
+    assertNotEquivalent(typeText1, typeText2, null);
+  }
+
+  private void assertNotEquivalent(String typeText1, String typeText2, PsiElement context) {
+    assertFalse(PsiElementUtil.typesAreEquivalent(createType(typeText1, context), createType(typeText2, context)));
+  }
+
+  private PsiClass createClass(String classText) {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.configureByText("Test.java", classText);
+    return psiFile.getClasses()[0];
+  }
+
+  private PsiType createType(String typeText) {
+    return createType(typeText, null);
+  }
+
+  private PsiType createType(String typeText, PsiElement context) {
+    final PsiElementFactory elementFactory = JavaPsiFacade.getInstance(getProject()).getElementFactory();
+    return elementFactory.createTypeFromText(typeText, context);
+  }
+}